@@ -7,6 +7,9 @@ import dev.joshlucem.nowquiz.quiz.LeaderboardEntry;
 import dev.joshlucem.nowquiz.quiz.PlayerStats;
 import dev.joshlucem.nowquiz.util.LeaderboardMetric;
 import dev.joshlucem.nowquiz.util.TextUtil;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +28,8 @@ import org.bukkit.entity.Player;
  */
 public final class NowQuizCommand implements CommandExecutor, TabCompleter {
 
+    private static final String OVERWRITE_FLAG = "--overwrite";
+
     private final NowQuizPlugin plugin;
 
     public NowQuizCommand(NowQuizPlugin plugin) {
@@ -35,7 +40,7 @@ public final class NowQuizCommand implements CommandExecutor, TabCompleter {
     public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
         MessageService messages = this.plugin.getMessageService();
         if (args.length == 0) {
-            this.sendUsage(sender, "/nowquiz <start|stop|ask|reload|answer|stats|top>");
+            this.sendUsage(sender, "/nowquiz <start|stop|ask|reload|import|answer|stats|top|debug>");
             return true;
         }
 
@@ -45,11 +50,13 @@ public final class NowQuizCommand implements CommandExecutor, TabCompleter {
             case "stop" -> this.handleStop(sender);
             case "ask" -> this.handleAsk(sender, args);
             case "reload" -> this.handleReload(sender);
+            case "import" -> this.handleImport(sender, args);
             case "answer" -> this.handleAnswer(sender, args);
             case "stats" -> this.handleStats(sender, args);
             case "top" -> this.handleTop(sender, args);
+            case "debug" -> this.handleDebug(sender);
             default -> {
-                messages.send(sender, "errors.usage", Map.of("usage", "/nowquiz <start|stop|ask|reload|answer|stats|top>"));
+                messages.send(sender, "errors.usage", Map.of("usage", "/nowquiz <start|stop|ask|reload|import|answer|stats|top|debug>"));
                 yield true;
             }
         };
@@ -59,7 +66,7 @@ public final class NowQuizCommand implements CommandExecutor, TabCompleter {
     public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
         if (args.length == 1) {
             return this.filterSuggestions(
-                List.of("start", "stop", "ask", "reload", "answer", "stats", "top"),
+                List.of("start", "stop", "ask", "reload", "import", "answer", "stats", "top", "debug"),
                 args[0]
             );
         }
@@ -125,8 +132,54 @@ public final class NowQuizCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
-        this.plugin.reloadPluginState();
-        this.plugin.getMessageService().send(sender, "system.reloaded");
+        this.plugin.reloadPluginStateAsync().whenComplete((unused, throwable) ->
+            Bukkit.getScheduler().runTask(this.plugin, () -> {
+                if (throwable != null) {
+                    this.plugin.getLoggerBridge().warn("Failed to reload NowQuiz.", unwrap(throwable));
+                    this.plugin.getMessageService().send(sender, "system.reload-failed");
+                    return;
+                }
+
+                this.plugin.getMessageService().send(sender, "system.reloaded");
+            })
+        );
+        return true;
+    }
+
+    private boolean handleImport(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("nowquiz.import")) {
+            this.plugin.getMessageService().send(sender, "errors.no-permission");
+            return true;
+        }
+
+        if (args.length < 2) {
+            this.sendUsage(sender, "/nowquiz import <file.csv|file.ndjson> [--overwrite]");
+            return true;
+        }
+
+        boolean overwrite = args.length > 2 && args[args.length - 1].equalsIgnoreCase(OVERWRITE_FLAG);
+        String source = String.join(" ", Arrays.copyOfRange(args, 1, overwrite ? args.length - 1 : args.length));
+        this.plugin.getQuestionLoader().convertAsync(source, overwrite).whenComplete((result, throwable) ->
+            Bukkit.getScheduler().runTask(this.plugin, () -> {
+                if (unwrap(throwable) instanceof UncheckedIOException io && io.getCause() instanceof FileAlreadyExistsException exists) {
+                    this.plugin.getMessageService().send(sender, "import.exists", Map.of(
+                        "file", source,
+                        "target", exists.getFile() == null ? "" : Path.of(exists.getFile()).getFileName().toString()
+                    ));
+                    return;
+                }
+                if (throwable != null) {
+                    this.plugin.getLoggerBridge().warn("Failed to import " + source + ".", unwrap(throwable));
+                    this.plugin.getMessageService().send(sender, "import.failed", Map.of("file", source));
+                    return;
+                }
+
+                this.plugin.getMessageService().send(sender, "import.done", Map.of(
+                    "count", Integer.toString(result.questions()),
+                    "files", Integer.toString(result.files().size())
+                ));
+            })
+        );
         return true;
     }
 
@@ -224,6 +277,27 @@ public final class NowQuizCommand implements CommandExecutor, TabCompleter {
         return true;
     }
 
+    private boolean handleDebug(CommandSender sender) {
+        if (!sender.hasPermission("nowquiz.debug")) {
+            this.plugin.getMessageService().send(sender, "errors.no-permission");
+            return true;
+        }
+
+        MessageService messages = this.plugin.getMessageService();
+        Map<String, Long> metrics = this.plugin.getDebugMetrics().snapshot();
+        if (metrics.isEmpty()) {
+            messages.send(sender, "debug.empty");
+            return true;
+        }
+
+        messages.send(sender, "debug.header");
+        metrics.forEach((name, value) -> messages.send(sender, "debug.entry", Map.of(
+            "name", name,
+            "value", Long.toString(value)
+        )));
+        return true;
+    }
+
     private void loadStatsForUuid(CommandSender sender, java.util.UUID playerId, String playerName) {
         this.plugin.getStatsManager().getOrLoad(playerId, playerName).whenComplete((stats, throwable) ->
             Bukkit.getScheduler().runTask(this.plugin, () -> {
@@ -1,11 +1,14 @@
 package dev.joshlucem.nowquiz.core;
 
 import dev.joshlucem.nowquiz.quiz.AnswerOption;
+import dev.joshlucem.nowquiz.quiz.AnswerRules;
 import dev.joshlucem.nowquiz.quiz.Question;
 import dev.joshlucem.nowquiz.quiz.QuestionType;
 import dev.joshlucem.nowquiz.quiz.RewardDefinition;
 import dev.joshlucem.nowquiz.quiz.RewardItem;
+import dev.joshlucem.nowquiz.quiz.TypoTolerance;
 import dev.joshlucem.nowquiz.util.BroadcastScope;
+import dev.joshlucem.nowquiz.util.CountdownDisplay;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -16,6 +19,8 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -36,24 +41,37 @@ public final class ConfigurationLoader {
     public static NowQuizSettings loadSettings(FileConfiguration config) {
         return new NowQuizSettings(
             config.getString("lang", "es"),
+            config.getBoolean("per-player-lang", false),
             config.getBoolean("enabled", true),
             config.getBoolean("auto.enabled", true),
             Math.max(15, config.getInt("auto.interval-seconds", 300)),
             Math.max(5, config.getInt("round.time-limit-seconds", 30)),
             config.getBoolean("round.allow-multiple-winners", false),
+            config.getBoolean("round.close-on-first-correct", false),
+            CountdownDisplay.fromConfig(config.getString("round.countdown", "NONE")),
+            Math.max(1, config.getInt("round.countdown-interval-ticks", 10)),
             config.getBoolean("answer.allow-click", true),
+            config.getBoolean("answer.click-callbacks", true),
             config.getBoolean("answer.allow-chat", true),
             config.getString("answer.chat-prefix", "!"),
             Math.max(0L, config.getLong("answer.cooldown-ms", 750L)),
+            Math.max(1, config.getInt("answer.burst", 1)),
+            Math.max(0, config.getInt("answer.global-per-second", 0)),
             Math.max(0L, config.getLong("answer.min-human-ms", 250L)),
+            TypoTolerance.fromConfig(config.getString("answer.typo-tolerance", "off")),
             config.getBoolean("question.avoid-repeats", true),
             Math.max(0, config.getInt("question.repeat-cooldown", 5)),
+            config.getBoolean("question.compiled-bank", false),
+            config.getBoolean("question.snapshot-cache", true),
+            config.getBoolean("question.watch", false),
             config.getBoolean("hooks.vault", true),
             Math.max(0L, config.getLong("eligibility.min-online-seconds", 0L)),
             config.getBoolean("debug", false),
             BroadcastScope.fromConfig(config.getString("broadcast.scope", "GLOBAL")),
             config.getString("broadcast.permission", "nowquiz.use"),
-            config.getString("broadcast.default-world", "")
+            config.getString("broadcast.default-world", ""),
+            Math.max(0, config.getInt("broadcast.per-tick", 0)),
+            Math.max(0L, config.getLong("broadcast.tick-budget-us", 0L))
         );
     }
 
@@ -91,7 +109,10 @@ public final class ConfigurationLoader {
         return questions;
     }
 
-    private static Question questionFromMap(String category, Map<?, ?> rawQuestion, PluginLogger logger) {
+    /**
+     * Validates a single raw question entry, logging and returning {@code null} when it is unusable.
+     */
+    static Question questionFromMap(String category, Map<?, ?> rawQuestion, PluginLogger logger) {
         String id = stringValue(rawQuestion, "id", "").trim();
         String rawType = stringValue(rawQuestion, "type", "MULTIPLE");
         QuestionType type;
@@ -130,13 +151,39 @@ public final class ConfigurationLoader {
         String difficulty = stringValue(rawQuestion, "difficulty", "default").toLowerCase(Locale.ROOT);
         RewardDefinition overrides = rewardFromMap(mapValue(rawQuestion.get("rewards")), logger);
 
+        AnswerRules answerRules = answerRulesFromMap(rawQuestion, logger, id);
+
         if ((type == QuestionType.MULTIPLE || type == QuestionType.TRUE_FALSE)
             && !options.containsKey(correct.toUpperCase(Locale.ROOT))) {
             logger.warn("Skipped question " + id + " because the correct option does not exist.");
             return null;
         }
 
-        return new Question(category, id, type, prompt, options, correct, acceptedAnswers, difficulty, overrides);
+        return new Question(category, id, type, prompt, options, correct, acceptedAnswers, difficulty, overrides, answerRules);
+    }
+
+    private static AnswerRules answerRulesFromMap(Map<?, ?> rawQuestion, PluginLogger logger, String questionId) {
+        TypoTolerance typoTolerance = null;
+        String rawTolerance = stringValue(rawQuestion, "typo-tolerance", "");
+        if (!rawTolerance.isBlank()) {
+            typoTolerance = TypoTolerance.parse(rawTolerance).orElse(null);
+            if (typoTolerance == null) {
+                logger.warn("Question " + questionId + " has an invalid typo-tolerance: " + rawTolerance + ". The global setting is used.");
+            }
+        }
+
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : stringList(rawQuestion.get("patterns"))) {
+            try {
+                Pattern.compile(pattern);
+                patterns.add(pattern);
+            } catch (PatternSyntaxException exception) {
+                logger.warn("Question " + questionId + " has an invalid pattern that was ignored: " + pattern + ".");
+            }
+        }
+
+        Double numericTolerance = doubleValue(rawQuestion.get("numeric-tolerance"));
+        return new AnswerRules(typoTolerance, patterns, numericTolerance == null ? 0.0D : numericTolerance);
     }
 
     private static LinkedHashMap<String, AnswerOption> parseOptions(
@@ -0,0 +1,45 @@
+package dev.joshlucem.nowquiz.core;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named counters and gauges shown by {@code /nowquiz debug}.
+ *
+ * <p>Everything is lock-free so hot paths on chat threads can report without contention.
+ * Values live for the lifetime of the plugin and survive reloads.</p>
+ */
+public final class DebugMetrics {
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> gauges = new ConcurrentHashMap<>();
+
+    public void increment(String name) {
+        this.add(name, 1L);
+    }
+
+    public void add(String name, long amount) {
+        this.counters.computeIfAbsent(name, ignored -> new LongAdder()).add(amount);
+    }
+
+    public void set(String name, long value) {
+        this.gauges.computeIfAbsent(name, ignored -> new AtomicLong()).set(value);
+    }
+
+    public void max(String name, long value) {
+        this.gauges.computeIfAbsent(name, ignored -> new AtomicLong()).accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Current values sorted by name.
+     */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        this.counters.forEach((name, counter) -> snapshot.put(name, counter.sum()));
+        this.gauges.forEach((name, gauge) -> snapshot.put(name, gauge.get()));
+        return snapshot;
+    }
+}
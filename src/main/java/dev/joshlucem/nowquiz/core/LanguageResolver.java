@@ -4,46 +4,99 @@ import java.io.File;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
  * Loads built-in and optional custom language files from the plugin data folder.
+ *
+ * <p>Every bundled language is loaded so players can be served in their own client language.
+ * {@code lang} only picks the default. {@code lang/custom.yml} keeps overriding the Spanish
+ * bundle, and {@code lang/custom-<code>.yml} overrides the bundle with that code.</p>
+ *
+ * <p>Each language is flattened into an immutable table keyed by the full dotted path. Keys
+ * that the bundled Spanish file defines but a language lacks are reported once here and filled
+ * with the Spanish text, so rendering never has to deal with a missing message.</p>
  */
 public final class LanguageResolver {
 
+    private static final List<String> BUNDLED = List.of("es", "en");
+    private static final String FALLBACK = "es";
+
     private LanguageResolver() {
     }
 
-    public static YamlConfiguration resolve(JavaPlugin plugin, String configuredLanguage, PluginLogger logger) {
-        File dataFolder = plugin.getDataFolder();
-        File langFolder = new File(dataFolder, "lang");
-        String language = configuredLanguage == null ? "es" : configuredLanguage.trim().toLowerCase(Locale.ROOT);
-
-        return switch (language) {
-            case "en" -> loadBundled(plugin, "lang/en.yml");
-            case "custom" -> loadCustom(plugin, langFolder, logger);
-            case "es" -> loadBundled(plugin, "lang/es.yml");
-            default -> {
-                logger.warn("Unsupported language '" + configuredLanguage + "'. Falling back to Spanish (es).");
-                yield loadBundled(plugin, "lang/es.yml");
+    public static Languages resolve(JavaPlugin plugin, String configuredLanguage, PluginLogger logger) {
+        File langFolder = new File(plugin.getDataFolder(), "lang");
+        String language = configuredLanguage == null ? FALLBACK : configuredLanguage.trim().toLowerCase(Locale.ROOT);
+
+        Map<String, YamlConfiguration> bundles = new LinkedHashMap<>();
+        for (String code : BUNDLED) {
+            YamlConfiguration bundle = loadBundled(plugin, "lang/" + code + ".yml");
+            File overlay = new File(langFolder, "custom-" + code + ".yml");
+            if (overlay.exists()) {
+                mergeInto(bundle, YamlConfiguration.loadConfiguration(overlay));
+            }
+            bundles.put(code, bundle);
+        }
+
+        if ("custom".equals(language)) {
+            File customFile = new File(langFolder, "custom.yml");
+            if (customFile.exists()) {
+                mergeInto(bundles.get(FALLBACK), YamlConfiguration.loadConfiguration(customFile));
+            } else {
+                logger.warn("lang: custom is configured, but lang/custom.yml does not exist. Falling back to Spanish (es).");
             }
-        };
+            language = FALLBACK;
+        } else if (!bundles.containsKey(language)) {
+            logger.warn("Unsupported language '" + configuredLanguage + "'. Falling back to Spanish (es).");
+            language = FALLBACK;
+        }
+
+        Map<String, String> reference = flatten(loadBundled(plugin, "lang/" + FALLBACK + ".yml"));
+        Map<String, Map<String, String>> tables = new LinkedHashMap<>();
+        bundles.forEach((code, bundle) -> tables.put(code, complete(code, flatten(bundle), reference, logger)));
+        return new Languages(language, Map.copyOf(tables));
     }
 
-    private static YamlConfiguration loadCustom(JavaPlugin plugin, File langFolder, PluginLogger logger) {
-        YamlConfiguration base = loadBundled(plugin, "lang/es.yml");
-        File customFile = new File(langFolder, "custom.yml");
-        if (!customFile.exists()) {
-            logger.warn("lang: custom is configured, but lang/custom.yml does not exist. Falling back to Spanish (es).");
-            return base;
+    private static Map<String, String> flatten(YamlConfiguration messages) {
+        Map<String, String> table = new LinkedHashMap<>();
+        for (String path : messages.getKeys(true)) {
+            if (!messages.isConfigurationSection(path)) {
+                table.put(path, messages.getString(path, ""));
+            }
         }
+        return table;
+    }
 
-        YamlConfiguration custom = YamlConfiguration.loadConfiguration(customFile);
-        mergeInto(base, custom);
-        return base;
+    /**
+     * Fills keys the reference defines but {@code table} lacks, and logs them together.
+     */
+    private static Map<String, String> complete(
+        String code,
+        Map<String, String> table,
+        Map<String, String> reference,
+        PluginLogger logger
+    ) {
+        List<String> missing = new ArrayList<>();
+        reference.forEach((path, text) -> {
+            if (table.putIfAbsent(path, text) == null) {
+                missing.add(path);
+            }
+        });
+
+        if (!missing.isEmpty()) {
+            logger.warn("Language '" + code + "' is missing " + missing.size() + " message(s), using the Spanish text: "
+                + String.join(", ", missing.subList(0, Math.min(10, missing.size())))
+                + (missing.size() > 10 ? ", ..." : "") + ".");
+        }
+        return Map.copyOf(table);
     }
 
     private static YamlConfiguration loadBundled(JavaPlugin plugin, String resourcePath) {
@@ -78,4 +131,10 @@ public final class LanguageResolver {
             target.set(fullPath, value);
         }
     }
+
+    /**
+     * Every loaded language by code, plus the one used when a recipient has no match.
+     */
+    public record Languages(String defaultLanguage, Map<String, Map<String, String>> bundles) {
+    }
 }
@@ -1,51 +1,295 @@
 package dev.joshlucem.nowquiz.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.bukkit.command.CommandSender;
-import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 
 /**
  * Centralizes MiniMessage rendering for configurable text.
+ *
+ * <p>Every loaded language is kept as a {@link Bundle}. Direct sends use the recipient's bundle
+ * when per-player languages are enabled, and {@link #localized(Function)} renders a broadcast
+ * once per distinct language among its recipients.</p>
+ *
+ * <p>Each template is parsed once per placeholder set. Placeholders are parsed as single slot
+ * characters taken from the Unicode noncharacters U+FDD0 to U+FDEF, so the cached component
+ * tree keeps one slot character where each value goes, and rendering only rewrites the text
+ * nodes that contain a slot. Noncharacters are reserved for internal use, unlike the
+ * private-use range resource packs map glyphs to; a template or prefix that contains one anyway
+ * is never compiled and is parsed in full on every render instead. A new instance is created on
+ * every reload, which also drops the cache.</p>
  */
 public final class MessageService {
 
-    private final MiniMessage miniMessage;
-    private final YamlConfiguration messages;
-    private final Component prefix;
+    private static final char FIRST_SLOT = '\uFDD0';
+    private static final int MAX_SLOTS = 32;
 
-    public MessageService(YamlConfiguration messages) {
-        this.miniMessage = MiniMessage.miniMessage();
-        this.messages = messages;
-        this.prefix = this.miniMessage.deserialize(messages.getString("prefix", "<gray>NowQuiz</gray>"));
+    private final Map<String, Bundle> bundles;
+    private final Bundle defaultBundle;
+    private final boolean perPlayerLanguage;
+
+    public MessageService(Map<String, Map<String, String>> languages, String defaultLanguage, boolean perPlayerLanguage) {
+        MiniMessage miniMessage = MiniMessage.miniMessage();
+        Map<String, Bundle> bundles = new LinkedHashMap<>();
+        languages.forEach((language, messages) -> bundles.put(language, new Bundle(language, messages, miniMessage)));
+        this.bundles = Map.copyOf(bundles);
+        this.defaultBundle = bundles.containsKey(defaultLanguage)
+            ? bundles.get(defaultLanguage)
+            : new Bundle(defaultLanguage, Map.of(), miniMessage);
+        this.perPlayerLanguage = perPlayerLanguage;
     }
 
     public Component render(String path) {
-        return this.render(path, Map.of());
+        return this.defaultBundle.render(path);
     }
 
     public Component render(String path, Map<String, String> placeholders) {
-        String template = this.messages.getString(path, "<red>Missing message: " + path + "</red>");
-        List<TagResolver> resolvers = new ArrayList<>();
-        resolvers.add(Placeholder.component("prefix", this.prefix));
-        placeholders.forEach((key, value) -> resolvers.add(Placeholder.unparsed(key, value == null ? "" : value)));
-        return this.miniMessage.deserialize(template, TagResolver.resolver(resolvers));
+        return this.defaultBundle.render(path, placeholders);
     }
 
     public String string(String path, String fallback) {
-        return this.messages.getString(path, fallback);
+        return this.defaultBundle.string(path, fallback);
     }
 
     public void send(CommandSender sender, String path) {
-        sender.sendMessage(this.render(path));
+        sender.sendMessage(this.bundle(sender).render(path));
     }
 
     public void send(CommandSender sender, String path, Map<String, String> placeholders) {
-        sender.sendMessage(this.render(path, placeholders));
+        sender.sendMessage(this.bundle(sender).render(path, placeholders));
+    }
+
+    /**
+     * The bundle a recipient reads: their client language when per-player languages are enabled
+     * and that language is loaded, otherwise the configured {@code lang}.
+     */
+    public Bundle bundle(CommandSender sender) {
+        if (!this.perPlayerLanguage || !(sender instanceof Player player)) {
+            return this.defaultBundle;
+        }
+        return this.bundles.getOrDefault(player.locale().getLanguage(), this.defaultBundle);
+    }
+
+    /**
+     * Every bundle a broadcast may be rendered in: all languages with per-player languages, otherwise the default.
+     */
+    public Collection<Bundle> broadcastBundles() {
+        return this.perPlayerLanguage ? this.bundles.values() : List.of(this.defaultBundle);
+    }
+
+    /**
+     * Wraps a broadcast so it is built at most once for each distinct language among its recipients.
+     *
+     * <p>The returned function caches per bundle and is meant for one broadcast on the main thread.</p>
+     */
+    public Function<CommandSender, Component> localized(Function<Bundle, Component> message) {
+        if (!this.perPlayerLanguage) {
+            Component component = message.apply(this.defaultBundle);
+            return ignored -> component;
+        }
+
+        Map<Bundle, Component> rendered = new HashMap<>(4);
+        return recipient -> rendered.computeIfAbsent(this.bundle(recipient), message);
+    }
+
+    /**
+     * One loaded language: a flat, immutable message table with its own prefix and template cache.
+     */
+    public static final class Bundle {
+
+        private final String language;
+        private final MiniMessage miniMessage;
+        private final Map<String, String> messages;
+        private final String prefixSource;
+        private final Component prefix;
+        private final Map<String, CompiledTemplate[]> templates;
+
+        private Bundle(String language, Map<String, String> messages, MiniMessage miniMessage) {
+            this.language = language;
+            this.miniMessage = miniMessage;
+            this.messages = messages;
+            this.prefixSource = messages.getOrDefault("prefix", "<gray>NowQuiz</gray>");
+            this.prefix = miniMessage.deserialize(this.prefixSource);
+            this.templates = new ConcurrentHashMap<>();
+        }
+
+        public String language() {
+            return this.language;
+        }
+
+        public Component render(String path) {
+            return this.render(path, Map.of());
+        }
+
+        public Component render(String path, Map<String, String> placeholders) {
+            if (placeholders.size() > MAX_SLOTS) {
+                return this.parse(path, placeholders);
+            }
+            CompiledTemplate compiled = this.compiled(path, placeholders.keySet());
+            return compiled.tree() == null ? this.parse(path, placeholders) : compiled.fill(placeholders);
+        }
+
+        public String string(String path, String fallback) {
+            return this.messages.getOrDefault(path, fallback);
+        }
+
+        /**
+         * Full MiniMessage parse without the template cache; also the baseline for the render benchmark.
+         */
+        Component parse(String path, Map<String, String> placeholders) {
+            List<TagResolver> resolvers = new ArrayList<>();
+            resolvers.add(Placeholder.component("prefix", this.prefix));
+            placeholders.forEach((key, value) -> resolvers.add(Placeholder.unparsed(key, value == null ? "" : value)));
+            return this.miniMessage.deserialize(this.template(path), TagResolver.resolver(resolvers));
+        }
+
+        private String template(String path) {
+            // Bundled keys are filled in at load, so this only catches paths no language file defines.
+            String template = this.messages.get(path);
+            return template != null ? template : "<red>Missing message: " + path + "</red>";
+        }
+
+        private CompiledTemplate compiled(String path, Set<String> keys) {
+            CompiledTemplate[] variants = this.templates.get(path);
+            if (variants != null) {
+                for (CompiledTemplate variant : variants) {
+                    if (variant.keys().equals(keys)) {
+                        return variant;
+                    }
+                }
+            }
+
+            CompiledTemplate compiled = this.compile(path, keys);
+            this.templates.merge(path, new CompiledTemplate[] {compiled}, (current, added) -> {
+                CompiledTemplate[] merged = Arrays.copyOf(current, current.length + 1);
+                merged[current.length] = added[0];
+                return merged;
+            });
+            return compiled;
+        }
+
+        private CompiledTemplate compile(String path, Set<String> keys) {
+            String[] slots = keys.toArray(String[]::new);
+            String template = this.template(path);
+            if (containsSlotCharacter(template) || containsSlotCharacter(this.prefixSource)) {
+                // Slot characters would be ambiguous in this tree; remember to parse it in full instead.
+                return new CompiledTemplate(Set.of(slots), slots, null);
+            }
+
+            List<TagResolver> resolvers = new ArrayList<>(slots.length + 1);
+            resolvers.add(Placeholder.component("prefix", this.prefix));
+            for (int slot = 0; slot < slots.length; slot++) {
+                resolvers.add(Placeholder.unparsed(slots[slot], String.valueOf((char) (FIRST_SLOT + slot))));
+            }
+
+            Component tree = this.miniMessage.deserialize(template, TagResolver.resolver(resolvers));
+            return new CompiledTemplate(Set.of(slots), slots, tree);
+        }
+
+        private static boolean containsSlotCharacter(String text) {
+            for (int index = 0; index < text.length(); index++) {
+                int slot = text.charAt(index) - FIRST_SLOT;
+                if (slot >= 0 && slot < MAX_SLOTS) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A parsed template whose text nodes hold one slot character per placeholder occurrence, or a
+     * {@code null} tree when the template has to be parsed in full on every render.
+     */
+    private record CompiledTemplate(Set<String> keys, String[] slots, Component tree) {
+
+        Component fill(Map<String, String> placeholders) {
+            if (this.slots.length == 0) {
+                return this.tree;
+            }
+
+            String[] values = new String[this.slots.length];
+            for (int slot = 0; slot < this.slots.length; slot++) {
+                String value = placeholders.get(this.slots[slot]);
+                values[slot] = value == null ? "" : value;
+            }
+            return fill(this.tree, values);
+        }
+
+        private static Component fill(Component component, String[] values) {
+            Component result = component;
+            if (component instanceof TextComponent text) {
+                String content = text.content();
+                String filled = substitute(content, values);
+                if (filled != content) {
+                    result = text.content(filled);
+                }
+            }
+
+            List<Component> children = component.children();
+            List<Component> filledChildren = null;
+            for (int index = 0; index < children.size(); index++) {
+                Component child = children.get(index);
+                Component filled = fill(child, values);
+                if (filled != child && filledChildren == null) {
+                    filledChildren = new ArrayList<>(children);
+                }
+                if (filledChildren != null) {
+                    filledChildren.set(index, filled);
+                }
+            }
+            if (filledChildren != null) {
+                result = result.children(filledChildren);
+            }
+
+            HoverEvent<?> hover = component.hoverEvent();
+            if (hover != null && hover.value() instanceof Component hoverText) {
+                Component filled = fill(hoverText, values);
+                if (filled != hoverText) {
+                    result = result.hoverEvent(HoverEvent.showText(filled));
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns {@code content} itself when it holds no slot character.
+         */
+        private static String substitute(String content, String[] values) {
+            StringBuilder builder = null;
+            int copied = 0;
+            for (int index = 0; index < content.length(); index++) {
+                int slot = content.charAt(index) - FIRST_SLOT;
+                if (slot < 0 || slot >= values.length) {
+                    continue;
+                }
+
+                if (builder == null) {
+                    builder = new StringBuilder(content.length() + 16);
+                }
+                builder.append(content, copied, index).append(values[slot]);
+                copied = index + 1;
+            }
+
+            if (builder == null) {
+                return content;
+            }
+            return builder.append(content, copied, content.length()).toString();
+        }
     }
 }
@@ -1,28 +1,31 @@
 package dev.joshlucem.nowquiz.core;
 
 import dev.joshlucem.nowquiz.commands.NowQuizCommand;
+import dev.joshlucem.nowquiz.listeners.AudienceListener;
+import dev.joshlucem.nowquiz.listeners.EconomyServiceListener;
 import dev.joshlucem.nowquiz.listeners.PlayerSessionListener;
 import dev.joshlucem.nowquiz.listeners.QuizChatListener;
+import dev.joshlucem.nowquiz.manager.AnswerFeedbackQueue;
 import dev.joshlucem.nowquiz.manager.AnswerService;
+import dev.joshlucem.nowquiz.manager.AudienceIndex;
 import dev.joshlucem.nowquiz.manager.QuestionPool;
 import dev.joshlucem.nowquiz.manager.QuizManager;
 import dev.joshlucem.nowquiz.manager.RewardManager;
 import dev.joshlucem.nowquiz.manager.RoundManager;
 import dev.joshlucem.nowquiz.manager.StatsManager;
-import dev.joshlucem.nowquiz.quiz.Question;
-import dev.joshlucem.nowquiz.quiz.RewardDefinition;
 import dev.joshlucem.nowquiz.storage.SQLiteStorage;
 import dev.joshlucem.nowquiz.util.AsyncExecutor;
 import java.io.File;
+import java.io.IOException;
 import java.time.Duration;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -32,16 +35,21 @@ import org.bukkit.plugin.java.JavaPlugin;
 public final class NowQuizPlugin extends JavaPlugin {
 
     private final Map<UUID, Long> playerSessions = new ConcurrentHashMap<>();
+    private final DebugMetrics debugMetrics = new DebugMetrics();
 
     private AsyncExecutor asyncExecutor;
     private PluginLogger loggerBridge;
     private NowQuizSettings settings;
     private MessageService messageService;
     private SQLiteStorage storage;
+    private QuestionLoader questionLoader;
+    private QuestionSourceWatcher questionWatcher;
     private StatsManager statsManager;
     private QuestionPool questionPool;
     private RewardManager rewardManager;
+    private AudienceIndex audienceIndex;
     private RoundManager roundManager;
+    private AnswerFeedbackQueue answerFeedback;
     private AnswerService answerService;
     private QuizManager quizManager;
 
@@ -55,6 +63,7 @@ public final class NowQuizPlugin extends JavaPlugin {
         this.storage = new SQLiteStorage(this.getDataFolder().toPath().resolve("nowquiz.db"), this.asyncExecutor, this.loggerBridge);
         this.storage.initialize();
         this.statsManager = new StatsManager(this.storage, this.loggerBridge);
+        this.questionLoader = new QuestionLoader(this.getDataFolder(), this.loggerBridge);
 
         this.reloadPluginState();
         this.registerCommand();
@@ -69,12 +78,24 @@ public final class NowQuizPlugin extends JavaPlugin {
 
     @Override
     public void onDisable() {
+        if (this.questionWatcher != null) {
+            this.questionWatcher.close();
+        }
         if (this.quizManager != null) {
             this.quizManager.shutdown();
         }
+        if (this.answerFeedback != null) {
+            this.answerFeedback.shutdown();
+        }
+        if (this.audienceIndex != null) {
+            this.audienceIndex.shutdown();
+        }
         if (this.statsManager != null) {
             this.statsManager.flushDirtyBlocking();
         }
+        if (this.questionLoader != null) {
+            this.questionLoader.shutdown();
+        }
         if (this.asyncExecutor != null) {
             this.asyncExecutor.shutdown(Duration.ofSeconds(5));
         }
@@ -82,8 +103,61 @@ public final class NowQuizPlugin extends JavaPlugin {
 
     /**
      * Reloads settings, messages and question caches without touching the SQL executor.
+     *
+     * <p>Question sources are still parsed on the loader pool; this variant waits for them
+     * and is meant for startup, where the plugin cannot run without its state.</p>
      */
     public void reloadPluginState() {
+        this.refreshSettings();
+        this.applyPluginState(this.questionLoader.loadAsync(this.settings).join());
+    }
+
+    /**
+     * Parses question sources off the main thread and applies the new state on the next tick.
+     */
+    public CompletableFuture<Void> reloadPluginStateAsync() {
+        this.refreshSettings();
+        return this.questionLoader.loadAsync(this.settings).thenAcceptAsync(this::applyPluginState, this.mainThread());
+    }
+
+    /**
+     * Rebuilds only the question pool after a watched source changed.
+     *
+     * <p>Parsing and the id-level diff run off the main thread. The new pool is swapped in on the
+     * next tick; settings, rewards and the active round are left untouched.</p>
+     */
+    private CompletableFuture<Void> hotReloadQuestions(NowQuizSettings settings) {
+        Executor mainThread = this.mainThread();
+        return CompletableFuture.supplyAsync(() -> this.questionPool, mainThread)
+            .thenCompose(previous -> this.questionLoader.loadAsync(settings).thenApply(content -> {
+                QuestionPool next = new QuestionPool(content.questions(), settings, this.loggerBridge);
+                QuestionPool.Changes changes = next.changesFrom(previous);
+                if (changes.isEmpty()) {
+                    this.loggerBridge.debug("Question files changed on disk but no question did.");
+                    return null;
+                }
+
+                this.loggerBridge.info("Hot reloaded questions: " + changes.added() + " added, " + changes.changed()
+                    + " changed, " + changes.removed() + " removed (" + next.size() + " total).");
+                return new PoolSwap(previous, next);
+            }))
+            .thenAcceptAsync(swap -> {
+                // A full reload in between already replaced the pool this diff was based on.
+                if (swap == null || swap.previous() != this.questionPool) {
+                    return;
+                }
+
+                swap.next().inheritRecent(swap.previous());
+                this.questionPool = swap.next();
+                this.quizManager.replaceQuestionPool(swap.next());
+            }, mainThread);
+    }
+
+    private Executor mainThread() {
+        return task -> Bukkit.getScheduler().runTask(this, task);
+    }
+
+    private void refreshSettings() {
         this.reloadConfig();
         this.settings = ConfigurationLoader.loadSettings(this.getConfig());
 
@@ -92,29 +166,66 @@ public final class NowQuizPlugin extends JavaPlugin {
         } else {
             this.loggerBridge.setDebugEnabled(this.settings.debug());
         }
+    }
 
+    private void applyPluginState(QuestionLoader.LoadedContent content) {
         if (this.quizManager != null) {
             this.quizManager.shutdown();
         }
+        if (this.audienceIndex != null) {
+            this.audienceIndex.shutdown();
+        }
 
-        YamlConfiguration messagesConfig = LanguageResolver.resolve(this, this.settings.language(), this.loggerBridge);
-        YamlConfiguration questionsConfig = ConfigurationLoader.loadYaml(this.resolveDataFile("questions.yml"));
-        YamlConfiguration rewardsConfig = ConfigurationLoader.loadYaml(this.resolveDataFile("rewards.yml"));
+        LanguageResolver.Languages languages = LanguageResolver.resolve(this, this.settings.language(), this.loggerBridge);
+        this.messageService = new MessageService(languages.bundles(), languages.defaultLanguage(), this.settings.perPlayerLanguage());
+
+        this.questionPool = new QuestionPool(content.questions(), this.settings, this.loggerBridge);
+        this.rewardManager = new RewardManager(this, content.rewardProfiles(), this.settings, this.loggerBridge);
+        this.audienceIndex = new AudienceIndex(this, this.settings, this.loggerBridge);
+        this.audienceIndex.start();
+        this.roundManager = new RoundManager(
+            this,
+            this.settings,
+            this.messageService,
+            this.rewardManager,
+            this.statsManager,
+            this.loggerBridge,
+            this.audienceIndex
+        );
+        // Kept across reloads so answers still in flight on chat threads are not dropped.
+        if (this.answerFeedback == null) {
+            this.answerFeedback = new AnswerFeedbackQueue(this, this.debugMetrics);
+            this.answerFeedback.start();
+        }
+        this.answerService = new AnswerService(this, this.settings, this.messageService, this.roundManager, this.answerFeedback, this.debugMetrics);
+        this.quizManager = new QuizManager(this, this.settings, this.messageService, this.questionPool, this.roundManager);
+        this.quizManager.refreshScheduler();
+        this.restartQuestionWatcher();
 
-        this.messageService = new MessageService(messagesConfig);
+        if (content.questions().size() == 0) {
+            this.loggerBridge.warn("No quiz questions were loaded from questions.yml or questions.d/.");
+        }
+    }
 
-        Map<String, RewardDefinition> rewardProfiles = ConfigurationLoader.loadRewardProfiles(rewardsConfig, this.loggerBridge);
-        List<Question> questions = ConfigurationLoader.loadQuestions(questionsConfig, this.loggerBridge);
+    private void restartQuestionWatcher() {
+        if (this.questionWatcher != null) {
+            this.questionWatcher.close();
+            this.questionWatcher = null;
+        }
 
-        this.questionPool = new QuestionPool(questions, this.settings, this.loggerBridge);
-        this.rewardManager = new RewardManager(this, rewardProfiles, this.settings, this.loggerBridge);
-        this.roundManager = new RoundManager(this, this.settings, this.messageService, this.rewardManager, this.statsManager, this.loggerBridge);
-        this.answerService = new AnswerService(this, this.settings, this.messageService, this.roundManager);
-        this.quizManager = new QuizManager(this, this.settings, this.messageService, this.questionPool, this.roundManager);
-        this.quizManager.refreshScheduler();
+        if (!this.settings.watchQuestions()) {
+            return;
+        }
 
-        if (questions.isEmpty()) {
-            this.loggerBridge.warn("No quiz questions were loaded from questions.yml.");
+        NowQuizSettings watchedSettings = this.settings;
+        try {
+            this.questionWatcher = QuestionSourceWatcher.start(
+                this.getDataFolder().toPath(),
+                this.loggerBridge,
+                () -> this.hotReloadQuestions(watchedSettings)
+            );
+        } catch (IOException exception) {
+            this.loggerBridge.warn("Could not watch the question files. Use /nowquiz reload after editing them.", exception);
         }
     }
 
@@ -154,6 +265,10 @@ public final class NowQuizPlugin extends JavaPlugin {
         return this.statsManager;
     }
 
+    public QuestionLoader getQuestionLoader() {
+        return this.questionLoader;
+    }
+
     public QuestionPool getQuestionPool() {
         return this.questionPool;
     }
@@ -162,10 +277,18 @@ public final class NowQuizPlugin extends JavaPlugin {
         return this.rewardManager;
     }
 
+    public AudienceIndex getAudienceIndex() {
+        return this.audienceIndex;
+    }
+
     public RoundManager getRoundManager() {
         return this.roundManager;
     }
 
+    public DebugMetrics getDebugMetrics() {
+        return this.debugMetrics;
+    }
+
     public AnswerService getAnswerService() {
         return this.answerService;
     }
@@ -184,6 +307,8 @@ public final class NowQuizPlugin extends JavaPlugin {
     private void registerListeners() {
         this.getServer().getPluginManager().registerEvents(new QuizChatListener(this), this);
         this.getServer().getPluginManager().registerEvents(new PlayerSessionListener(this), this);
+        this.getServer().getPluginManager().registerEvents(new AudienceListener(this), this);
+        this.getServer().getPluginManager().registerEvents(new EconomyServiceListener(this), this);
     }
 
     private void saveBundledResources() {
@@ -196,6 +321,11 @@ public final class NowQuizPlugin extends JavaPlugin {
         this.saveIfMissing("rewards.yml");
         this.saveIfMissing("lang/es.yml");
         this.saveIfMissing("lang/en.yml");
+
+        File questionsDirectory = this.resolveDataFile("questions.d");
+        if (!questionsDirectory.exists() && !questionsDirectory.mkdirs()) {
+            this.getLogger().warning("Could not create the questions.d directory.");
+        }
     }
 
     private void saveIfMissing(String resourcePath) {
@@ -208,4 +338,7 @@ public final class NowQuizPlugin extends JavaPlugin {
     private File resolveDataFile(String fileName) {
         return new File(this.getDataFolder(), fileName);
     }
+
+    private record PoolSwap(QuestionPool previous, QuestionPool next) {
+    }
 }
@@ -1,29 +1,44 @@
 package dev.joshlucem.nowquiz.core;
 
+import dev.joshlucem.nowquiz.quiz.TypoTolerance;
 import dev.joshlucem.nowquiz.util.BroadcastScope;
+import dev.joshlucem.nowquiz.util.CountdownDisplay;
 
 /**
  * Immutable runtime view of the main configuration.
  */
 public record NowQuizSettings(
     String language,
+    boolean perPlayerLanguage,
     boolean enabled,
     boolean autoEnabled,
     int autoIntervalSeconds,
     int roundTimeLimitSeconds,
     boolean allowMultipleWinners,
+    boolean closeOnFirstCorrect,
+    CountdownDisplay countdownDisplay,
+    int countdownIntervalTicks,
     boolean allowClickAnswers,
+    boolean clickCallbacks,
     boolean allowChatAnswers,
     String chatPrefix,
     long answerCooldownMs,
+    int answerBurst,
+    int globalAnswersPerSecond,
     long minHumanMs,
+    TypoTolerance typoTolerance,
     boolean avoidRepeats,
     int repeatCooldown,
+    boolean compiledQuestionBank,
+    boolean snapshotCache,
+    boolean watchQuestions,
     boolean hookVault,
     long minOnlineSeconds,
     boolean debug,
     BroadcastScope broadcastScope,
     String broadcastPermission,
-    String defaultWorldName
+    String defaultWorldName,
+    int broadcastPerTick,
+    long broadcastTickBudgetMicros
 ) {
 }
@@ -0,0 +1,488 @@
+package dev.joshlucem.nowquiz.core;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import dev.joshlucem.nowquiz.quiz.AnswerOption;
+import dev.joshlucem.nowquiz.quiz.AnswerRules;
+import dev.joshlucem.nowquiz.quiz.Question;
+import dev.joshlucem.nowquiz.quiz.RewardDefinition;
+import dev.joshlucem.nowquiz.quiz.RewardItem;
+import dev.joshlucem.nowquiz.util.TextUtil;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Streaming importers for spreadsheet-friendly question files.
+ *
+ * <p>CSV and NDJSON rows are turned into the same raw maps a {@code questions.yml} entry
+ * produces and validated through {@link ConfigurationLoader#questionFromMap}. Each row is
+ * handed to the sink as soon as it is parsed, so memory use does not grow with the file.</p>
+ *
+ * <p>CSV files need a header row. Recognised columns are {@code category}, {@code id},
+ * {@code type}, {@code question}, {@code correct}, {@code difficulty}, {@code aliases}
+ * (separated by {@code |}), {@code typo_tolerance}, {@code numeric_tolerance}, {@code money},
+ * {@code xp} and one {@code option_<key>} column per option. Answer patterns are only read from
+ * NDJSON, since regular expressions clash with the alias separator. NDJSON files hold one JSON object per line using the YAML keys plus {@code category}.
+ * When no category is given, the file name is used.</p>
+ */
+public final class QuestionImporter {
+
+    private static final String OPTION_COLUMN_PREFIX = "option_";
+
+    private QuestionImporter() {
+    }
+
+    public static boolean isSupported(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".csv") || name.endsWith(".ndjson") || name.endsWith(".jsonl");
+    }
+
+    /**
+     * Streams every valid question in the file into the sink.
+     *
+     * @return the number of questions accepted
+     */
+    public static int stream(Path file, PluginLogger logger, Consumer<Question> sink) throws IOException {
+        return streamRows(file, logger, (question, row) -> sink.accept(question));
+    }
+
+    /**
+     * Same as {@link #stream}, also handing over the raw row each question was built from.
+     */
+    private static int streamRows(Path file, PluginLogger logger, BiConsumer<Question, Map<?, ?>> sink) throws IOException {
+        String defaultCategory = baseName(file);
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (name.endsWith(".csv")) {
+                return streamCsv(reader, file, defaultCategory, logger, sink);
+            }
+            return streamNdjson(reader, file, defaultCategory, logger, sink);
+        }
+    }
+
+    /**
+     * One-shot conversion of a CSV or NDJSON file into {@code questions.d/} YAML.
+     *
+     * <p>One YAML file is written per category, named {@code <source>-<category>.yml}. Every
+     * category keeps its own open writer, so rows are appended as they stream in. Categories
+     * whose file names would collide, such as {@code Historia} and {@code historia}, get a
+     * numbered suffix. Existing files are only replaced when {@code overwrite} is set; otherwise
+     * the conversion fails with {@link FileAlreadyExistsException} and the files it already
+     * created are removed.</p>
+     *
+     * <p>Answers and aliases are copied from the source row as written, not from the normalized
+     * forms the matcher uses.</p>
+     */
+    public static ConversionResult convertToYaml(Path source, Path targetDirectory, boolean overwrite, PluginLogger logger)
+        throws IOException {
+        Files.createDirectories(targetDirectory);
+        String baseName = baseName(source);
+        OpenOption[] openOptions = overwrite
+            ? new OpenOption[] {StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE}
+            : new OpenOption[] {StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE};
+        Map<String, Writer> writers = new LinkedHashMap<>();
+        Set<String> fileNames = new HashSet<>();
+        List<Path> written = new ArrayList<>();
+
+        boolean completed = false;
+        try {
+            int count = streamRows(source, logger, (question, row) -> {
+                try {
+                    Writer writer = writers.get(question.category());
+                    if (writer == null) {
+                        String fileName = uniqueFileName(baseName + "-" + fileSafe(question.category()), fileNames);
+                        Path target = targetDirectory.resolve(fileName);
+                        writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8, openOptions);
+                        written.add(target);
+                        writers.put(question.category(), writer);
+                        writer.write(quote(question.category()) + ":\n");
+                    }
+                    writeYaml(writer, question, row);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            completed = true;
+            return new ConversionResult(count, List.copyOf(written));
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        } finally {
+            for (Writer writer : writers.values()) {
+                writer.close();
+            }
+            if (!completed) {
+                for (Path path : written) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    private static int streamCsv(
+        BufferedReader reader,
+        Path file,
+        String defaultCategory,
+        PluginLogger logger,
+        BiConsumer<Question, Map<?, ?>> sink
+    )
+        throws IOException {
+        PushbackReader input = new PushbackReader(reader, 1);
+        List<String> header = readCsvRecord(input);
+        if (header == null) {
+            return 0;
+        }
+
+        if (!header.isEmpty() && header.getFirst().startsWith("\uFEFF")) {
+            header.set(0, header.getFirst().substring(1));
+        }
+        for (int index = 0; index < header.size(); index++) {
+            header.set(index, header.get(index).trim().toLowerCase(Locale.ROOT));
+        }
+
+        int accepted = 0;
+        int row = 1;
+        List<String> record;
+        while ((record = readCsvRecord(input)) != null) {
+            row++;
+            if (record.size() == 1 && record.getFirst().isBlank()) {
+                continue;
+            }
+
+            Map<String, Object> rawQuestion = new LinkedHashMap<>();
+            Map<String, Object> options = new LinkedHashMap<>();
+            Map<String, Object> rewards = new LinkedHashMap<>();
+            String category = defaultCategory;
+            for (int column = 0; column < Math.min(header.size(), record.size()); column++) {
+                String key = header.get(column);
+                String value = record.get(column).trim();
+                if (value.isEmpty()) {
+                    continue;
+                }
+
+                if (key.startsWith(OPTION_COLUMN_PREFIX)) {
+                    options.put(key.substring(OPTION_COLUMN_PREFIX.length()), value);
+                    continue;
+                }
+
+                switch (key) {
+                    case "category" -> category = value;
+                    case "aliases" -> rawQuestion.put("aliases", List.of(value.split("\\|")));
+                    case "typo_tolerance" -> rawQuestion.put("typo-tolerance", value);
+                    case "numeric_tolerance" -> rawQuestion.put("numeric-tolerance", value);
+                    case "money", "xp" -> rewards.put(key, value);
+                    default -> rawQuestion.put(key, value);
+                }
+            }
+
+            if (!options.isEmpty()) {
+                rawQuestion.put("options", options);
+            }
+            if (!rewards.isEmpty()) {
+                rawQuestion.put("rewards", rewards);
+            }
+
+            Question question = ConfigurationLoader.questionFromMap(category, rawQuestion, logger);
+            if (question == null) {
+                logger.debug("Row " + row + " of " + file.getFileName() + " was rejected.");
+                continue;
+            }
+            sink.accept(question, rawQuestion);
+            accepted++;
+        }
+        return accepted;
+    }
+
+    private static int streamNdjson(
+        BufferedReader reader,
+        Path file,
+        String defaultCategory,
+        PluginLogger logger,
+        BiConsumer<Question, Map<?, ?>> sink
+    )
+        throws IOException {
+        int accepted = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+
+            Object parsed;
+            try {
+                parsed = fromJson(JsonParser.parseString(line));
+            } catch (JsonParseException exception) {
+                logger.warn("Skipped line " + lineNumber + " of " + file.getFileName() + " because it is not valid JSON.");
+                continue;
+            }
+
+            if (!(parsed instanceof Map<?, ?> rawQuestion)) {
+                logger.warn("Skipped line " + lineNumber + " of " + file.getFileName() + " because it is not a JSON object.");
+                continue;
+            }
+
+            Object category = rawQuestion.get("category");
+            Question question = ConfigurationLoader.questionFromMap(
+                category == null || category.toString().isBlank() ? defaultCategory : category.toString(),
+                rawQuestion,
+                logger
+            );
+            if (question == null) {
+                logger.debug("Line " + lineNumber + " of " + file.getFileName() + " was rejected.");
+                continue;
+            }
+            sink.accept(question, rawQuestion);
+            accepted++;
+        }
+        return accepted;
+    }
+
+    /**
+     * Reads one RFC 4180 record, including quoted fields that span lines.
+     *
+     * @return the fields, or {@code null} at end of input
+     */
+    private static List<String> readCsvRecord(PushbackReader input) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean readAnything = false;
+
+        int next;
+        while ((next = input.read()) != -1) {
+            readAnything = true;
+            char current = (char) next;
+
+            if (quoted) {
+                if (current != '"') {
+                    field.append(current);
+                    continue;
+                }
+
+                int following = input.read();
+                if (following == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    if (following != -1) {
+                        input.unread(following);
+                    }
+                }
+                continue;
+            }
+
+            switch (current) {
+                case '"' -> {
+                    if (field.isEmpty()) {
+                        quoted = true;
+                    } else {
+                        field.append(current);
+                    }
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                }
+                case '\r' -> {
+                    int following = input.read();
+                    if (following != '\n' && following != -1) {
+                        input.unread(following);
+                    }
+                    fields.add(field.toString());
+                    return fields;
+                }
+                case '\n' -> {
+                    fields.add(field.toString());
+                    return fields;
+                }
+                default -> field.append(current);
+            }
+        }
+
+        if (!readAnything) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static Object fromJson(JsonElement element) {
+        if (element == null || element.isJsonNull()) {
+            return null;
+        }
+
+        if (element.isJsonObject()) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                map.put(entry.getKey(), fromJson(entry.getValue()));
+            }
+            return map;
+        }
+
+        if (element.isJsonArray()) {
+            List<Object> list = new ArrayList<>();
+            for (JsonElement entry : element.getAsJsonArray()) {
+                list.add(fromJson(entry));
+            }
+            return list;
+        }
+
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+        if (primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+        if (primitive.isNumber()) {
+            return primitive.getAsNumber();
+        }
+        return primitive.getAsString();
+    }
+
+    private static void writeYaml(Writer writer, Question question, Map<?, ?> row) throws IOException {
+        writer.write("  - id: " + quote(question.id()) + "\n");
+        writer.write("    type: " + quote(question.type().name()) + "\n");
+        writer.write("    question: " + quote(question.prompt()) + "\n");
+
+        if (!question.options().isEmpty()) {
+            writer.write("    options:\n");
+            for (AnswerOption option : question.options().values()) {
+                writer.write("      " + quote(option.key()) + ": " + quote(option.text()) + "\n");
+            }
+        }
+
+        Object correct = row.get("correct");
+        writer.write("    correct: " + quote(correct == null ? question.correctKeyOrAnswer() : correct.toString()) + "\n");
+        writeList(writer, "    aliases:", "      - ", rawList(row.get("aliases")));
+
+        AnswerRules rules = question.answerRules();
+        if (rules.typoTolerance() != null) {
+            writer.write("    typo-tolerance: " + quote(rules.typoTolerance().configValue()) + "\n");
+        }
+        writeList(writer, "    patterns:", "      - ", rules.patterns());
+        if (rules.numericTolerance() > 0.0D) {
+            writer.write("    numeric-tolerance: " + rules.numericTolerance() + "\n");
+        }
+
+        writer.write("    difficulty: " + quote(question.rewardProfile()) + "\n");
+        writeRewards(writer, question.rewardOverrides());
+    }
+
+    private static void writeRewards(Writer writer, RewardDefinition rewards) throws IOException {
+        if (rewards.equals(RewardDefinition.empty())) {
+            return;
+        }
+
+        writer.write("    rewards:\n");
+        if (rewards.money() != null) {
+            writer.write("      money: " + TextUtil.formatDouble(rewards.money()) + "\n");
+        }
+        if (rewards.xp() != null) {
+            writer.write("      xp: " + rewards.xp() + "\n");
+        }
+        if (!rewards.items().isEmpty()) {
+            writer.write("      items:\n");
+            for (RewardItem item : rewards.items()) {
+                writer.write("        - material: " + item.material().name() + "\n");
+                writer.write("          amount: " + item.amount() + "\n");
+                if (!item.name().isBlank()) {
+                    writer.write("          name: " + quote(item.name()) + "\n");
+                }
+                writeList(writer, "          lore:", "            - ", item.lore());
+            }
+        }
+
+        if (!rewards.legacyCommands().isEmpty()) {
+            writeList(writer, "      commands:", "        - ", rewards.legacyCommands());
+        } else if (!rewards.consoleCommands().isEmpty() || !rewards.playerCommands().isEmpty()) {
+            writer.write("      commands:\n");
+            writeList(writer, "        console:", "          - ", rewards.consoleCommands());
+            writeList(writer, "        player:", "          - ", rewards.playerCommands());
+        }
+    }
+
+    private static void writeList(Writer writer, String header, String itemPrefix, List<String> values) throws IOException {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        writer.write(header + "\n");
+        for (String value : values) {
+            writer.write(itemPrefix + quote(value) + "\n");
+        }
+    }
+
+    /**
+     * Double-quoted YAML scalar, escaping quotes, backslashes and control characters.
+     */
+    private static String quote(String value) {
+        StringBuilder builder = new StringBuilder(value.length() + 2).append('"');
+        for (int index = 0; index < value.length(); index++) {
+            char current = value.charAt(index);
+            switch (current) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (current < 0x20) {
+                        builder.append(String.format(Locale.ROOT, "\\x%02X", (int) current));
+                    } else {
+                        builder.append(current);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    private static List<String> rawList(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().filter(Objects::nonNull).map(Object::toString).toList();
+        }
+        return value == null ? List.of() : List.of(value.toString());
+    }
+
+    private static String uniqueFileName(String stem, Set<String> used) {
+        String candidate = stem + ".yml";
+        for (int suffix = 2; !used.add(candidate); suffix++) {
+            candidate = stem + "-" + suffix + ".yml";
+        }
+        return candidate;
+    }
+
+    private static String baseName(Path file) {
+        String name = file.getFileName().toString();
+        int extension = name.lastIndexOf('.');
+        return extension > 0 ? name.substring(0, extension) : name;
+    }
+
+    private static String fileSafe(String value) {
+        String safe = value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_-]+", "_");
+        return safe.isBlank() ? "questions" : safe;
+    }
+
+    public record ConversionResult(int questions, List<Path> files) {
+    }
+}
@@ -0,0 +1,410 @@
+package dev.joshlucem.nowquiz.core;
+
+import dev.joshlucem.nowquiz.quiz.Question;
+import dev.joshlucem.nowquiz.quiz.QuestionBank;
+import dev.joshlucem.nowquiz.quiz.RewardDefinition;
+import dev.joshlucem.nowquiz.storage.ContentSnapshot;
+import dev.joshlucem.nowquiz.storage.MappedQuestionBank;
+import dev.joshlucem.nowquiz.storage.QuestionBankWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Resolves the configured question sources into a {@link QuestionBank}.
+ *
+ * <p>Questions are read from {@code questions.yml} and every YAML, CSV or NDJSON file in
+ * {@code questions.d/}. YAML files are parsed in parallel on a dedicated fork-join pool, CSV and
+ * NDJSON files are streamed row by row, and everything is merged in a fixed order:
+ * {@code questions.yml} first, then the directory entries sorted by file name. When an id is
+ * defined more than once, the first definition wins and the duplicate is reported.</p>
+ *
+ * <p>All sources, including {@code rewards.yml}, are hashed on every load. When
+ * {@code question.snapshot-cache} is enabled and {@code cache/content.snapshot} matches that hash,
+ * questions and reward profiles are decoded from the snapshot instead of YAML; otherwise the
+ * sources are parsed and the snapshot is rewritten in the background.</p>
+ *
+ * <p>With {@code question.compiled-bank} enabled the merged result is compiled into
+ * {@code questions.bank} whenever the hash changes, and the bank is memory-mapped so only the
+ * selected question is decoded. The snapshot cache is not used in that mode.</p>
+ *
+ * <p>In-memory loads remember each parsed YAML file by size and modification time, so a hot
+ * reload after editing one file only parses that file again.</p>
+ */
+public final class QuestionLoader {
+
+    private static final String SOURCE_FILE = "questions.yml";
+    private static final String SOURCE_DIRECTORY = "questions.d";
+    private static final String BANK_FILE = "questions.bank";
+    private static final String REWARDS_FILE = "rewards.yml";
+    private static final String SNAPSHOT_FILE = "cache/content.snapshot";
+
+    private final File dataFolder;
+    private final PluginLogger logger;
+    private final ForkJoinPool pool;
+    private final Map<Path, ParsedFile> parsedFiles = new ConcurrentHashMap<>();
+    private CompletableFuture<?> lastLoad = CompletableFuture.completedFuture(null);
+
+    public QuestionLoader(File dataFolder, PluginLogger logger) {
+        this.dataFolder = dataFolder;
+        this.logger = logger;
+        this.pool = new ForkJoinPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())),
+            pool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                thread.setName("NowQuiz-Loader-" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            },
+            null,
+            false
+        );
+    }
+
+    /**
+     * Loads every question source and the reward profiles off the calling thread.
+     *
+     * <p>Loads run one after another, so a hot reload and {@code /nowquiz reload} never compile
+     * the bank or share parsed state at the same time.</p>
+     */
+    public synchronized CompletableFuture<LoadedContent> loadAsync(NowQuizSettings settings) {
+        CompletableFuture<LoadedContent> load = this.lastLoad
+            .handle((ignored, failure) -> null)
+            .thenApplyAsync(ignored -> this.load(settings), this.pool);
+        this.lastLoad = load;
+        return load;
+    }
+
+    /**
+     * Converts a CSV or NDJSON file inside the data folder into YAML files under {@code questions.d/}.
+     *
+     * @param overwrite whether existing YAML files with the same names may be replaced
+     */
+    public CompletableFuture<QuestionImporter.ConversionResult> convertAsync(String relativePath, boolean overwrite) {
+        return CompletableFuture.supplyAsync(() -> {
+            Path root = this.dataFolder.toPath().toAbsolutePath().normalize();
+            Path source = root.resolve(relativePath).normalize();
+            if (!source.startsWith(root) || !Files.isRegularFile(source) || !QuestionImporter.isSupported(source)) {
+                throw new IllegalArgumentException("Unsupported import source: " + relativePath);
+            }
+
+            try {
+                return QuestionImporter.convertToYaml(source, root.resolve(SOURCE_DIRECTORY), overwrite, this.logger);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }, this.pool);
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+        try {
+            if (!this.pool.awaitTermination(5L, TimeUnit.SECONDS)) {
+                this.pool.shutdownNow();
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            this.pool.shutdownNow();
+        }
+    }
+
+    private LoadedContent load(NowQuizSettings settings) {
+        long startedAt = System.nanoTime();
+        List<Path> sources = this.listSources();
+        Path rewardsFile = this.dataFolder.toPath().resolve(REWARDS_FILE);
+        byte[] sourceHash = this.hashSources(sources, rewardsFile, settings.compiledQuestionBank());
+
+        ContentSnapshot snapshot = null;
+        boolean useSnapshot = settings.snapshotCache() && !settings.compiledQuestionBank() && sourceHash != null;
+        if (useSnapshot) {
+            snapshot = ContentSnapshot.read(this.dataFolder.toPath().resolve(SNAPSHOT_FILE), sourceHash).orElse(null);
+        }
+
+        Map<String, RewardDefinition> rewardProfiles = snapshot != null
+            ? snapshot.rewardProfiles()
+            : ConfigurationLoader.loadRewardProfiles(ConfigurationLoader.loadYaml(rewardsFile.toFile()), this.logger);
+
+        List<Question> parsed = List.of();
+        QuestionBank questions;
+        if (settings.compiledQuestionBank()) {
+            questions = this.loadBank(sources, sourceHash);
+        } else if (snapshot != null) {
+            questions = QuestionBank.of(snapshot.questions());
+            this.logger.info("Loaded " + questions.size() + " questions from the content snapshot in "
+                + (System.nanoTime() - startedAt) / 1_000_000L + "ms.");
+        } else {
+            parsed = this.parseSources(sources);
+            questions = QuestionBank.of(parsed);
+        }
+
+        if (useSnapshot && snapshot == null) {
+            this.writeSnapshotAsync(sourceHash, parsed, rewardProfiles);
+        }
+
+        // A compiled bank exists to keep questions off the heap, so nothing parsed is retained for it.
+        if (settings.compiledQuestionBank()) {
+            this.parsedFiles.clear();
+        } else {
+            this.parsedFiles.keySet().retainAll(sources);
+        }
+        return new LoadedContent(questions, rewardProfiles);
+    }
+
+    /**
+     * Maps the compiled bank, recompiling it first when it was built from different sources.
+     */
+    private QuestionBank loadBank(List<Path> sources, byte[] sourceHash) {
+        Path bankFile = this.dataFolder.toPath().resolve(BANK_FILE);
+        try {
+            if (sourceHash == null) {
+                throw new IOException("The question sources could not be hashed.");
+            }
+
+            MappedQuestionBank bank = this.openExistingBank(bankFile);
+            if (bank != null && Arrays.equals(bank.sourceHash(), sourceHash)) {
+                return bank;
+            }
+
+            this.compile(sources, bankFile, sourceHash);
+            return MappedQuestionBank.open(bankFile);
+        } catch (IOException exception) {
+            this.logger.warn("Could not use the compiled question bank. Falling back to in-memory questions.", exception);
+            return QuestionBank.of(this.parseSources(sources));
+        }
+    }
+
+    private MappedQuestionBank openExistingBank(Path bankFile) {
+        if (!Files.isRegularFile(bankFile)) {
+            return null;
+        }
+
+        try {
+            return MappedQuestionBank.open(bankFile);
+        } catch (IOException exception) {
+            this.logger.debug("Rebuilding " + BANK_FILE + ": " + exception.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Regenerates the snapshot on the loader pool so the current load is not delayed by the write.
+     */
+    private void writeSnapshotAsync(byte[] sourceHash, List<Question> questions, Map<String, RewardDefinition> rewardProfiles) {
+        Path snapshotFile = this.dataFolder.toPath().resolve(SNAPSHOT_FILE);
+        CompletableFuture.runAsync(() -> {
+            try {
+                ContentSnapshot.write(snapshotFile, sourceHash, questions, rewardProfiles);
+                this.logger.debug("Content snapshot refreshed with " + questions.size() + " questions.");
+            } catch (IOException exception) {
+                this.logger.warn("Could not write the content snapshot.", exception);
+            }
+        }, this.pool);
+    }
+
+    /**
+     * SHA-256 over every source path and its bytes, plus the settings that change what is cached.
+     *
+     * @return the hash, or {@code null} when a source could not be read
+     */
+    private byte[] hashSources(List<Path> sources, Path rewardsFile, boolean compiledBank) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            return null;
+        }
+
+        digest.update((byte) (compiledBank ? 1 : 0));
+        List<Path> files = new ArrayList<>(sources);
+        files.add(rewardsFile);
+        byte[] buffer = new byte[8192];
+        for (Path file : files) {
+            digest.update(this.describe(file).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            if (!Files.isRegularFile(file)) {
+                continue;
+            }
+
+            try (InputStream input = Files.newInputStream(file)) {
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+            } catch (IOException exception) {
+                this.logger.warn("Could not hash " + this.describe(file) + ". The content cache is skipped for this load.", exception);
+                return null;
+            }
+            digest.update((byte) 0);
+        }
+        return digest.digest();
+    }
+
+    private List<Path> listSources() {
+        List<Path> sources = new ArrayList<>();
+        Path mainFile = this.dataFolder.toPath().resolve(SOURCE_FILE);
+        if (Files.isRegularFile(mainFile)) {
+            sources.add(mainFile);
+        }
+
+        Path directory = this.dataFolder.toPath().resolve(SOURCE_DIRECTORY);
+        if (!Files.isDirectory(directory)) {
+            return sources;
+        }
+
+        try (Stream<Path> entries = Files.list(directory)) {
+            entries.filter(Files::isRegularFile)
+                .filter(path -> isYamlFile(path) || QuestionImporter.isSupported(path))
+                .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                .forEach(sources::add);
+        } catch (IOException exception) {
+            this.logger.warn("Could not list " + SOURCE_DIRECTORY + "/. Only " + SOURCE_FILE + " was loaded.", exception);
+        }
+        return sources;
+    }
+
+    private List<Question> parseSources(List<Path> sources) {
+        List<Question> merged = new ArrayList<>();
+        this.mergeSources(sources, merged::add);
+        return merged;
+    }
+
+    /**
+     * Parses all sources and feeds the merged result to the sink in source order.
+     *
+     * <p>YAML files are parsed in parallel first; this runs inside the loader pool, so the
+     * parallel stream forks onto the same workers. CSV and NDJSON sources are then streamed
+     * straight into the sink when their turn comes, so they are never held in memory as a whole.</p>
+     */
+    private void mergeSources(List<Path> sources, Consumer<Question> sink) {
+        long startedAt = System.nanoTime();
+        Map<Path, ParsedFile> parsedYaml = sources.parallelStream()
+            .filter(QuestionLoader::isYamlFile)
+            .map(this::parseFile)
+            .collect(Collectors.toMap(ParsedFile::path, Function.identity()));
+
+        Map<String, Path> owners = new HashMap<>();
+        int[] merged = new int[1];
+        for (Path source : sources) {
+            Consumer<Question> deduplicating = question -> {
+                Path owner = owners.putIfAbsent(question.id().toLowerCase(Locale.ROOT), source);
+                if (owner != null) {
+                    this.logger.warn("Duplicate question id " + question.id() + " in " + this.describe(source)
+                        + " was ignored; it is already defined in " + this.describe(owner) + ".");
+                    return;
+                }
+                sink.accept(question);
+                merged[0]++;
+            };
+
+            ParsedFile parsedFile = parsedYaml.get(source);
+            if (parsedFile != null) {
+                parsedFile.questions().forEach(deduplicating);
+            } else {
+                this.streamImport(source, deduplicating);
+            }
+        }
+
+        this.logger.info("Loaded " + merged[0] + " questions from " + sources.size() + " file(s) in "
+            + (System.nanoTime() - startedAt) / 1_000_000L + "ms.");
+    }
+
+    private ParsedFile parseFile(Path path) {
+        long startedAt = System.nanoTime();
+        BasicFileAttributes attributes = null;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException exception) {
+            this.logger.debug("Could not stat " + this.describe(path) + ": " + exception.getMessage());
+        }
+
+        ParsedFile cached = this.parsedFiles.get(path);
+        if (cached != null && attributes != null
+            && cached.size() == attributes.size()
+            && cached.modifiedMillis() == attributes.lastModifiedTime().toMillis()) {
+            this.logger.debug("Reused " + cached.questions().size() + " unchanged questions from " + this.describe(path) + ".");
+            return cached;
+        }
+
+        List<Question> questions = ConfigurationLoader.loadQuestions(ConfigurationLoader.loadYaml(path.toFile()), this.logger);
+        this.logger.debug("Parsed " + questions.size() + " questions from " + this.describe(path) + " in "
+            + (System.nanoTime() - startedAt) / 1_000_000L + "ms.");
+
+        if (attributes == null) {
+            return new ParsedFile(path, -1L, -1L, questions);
+        }
+        ParsedFile parsed = new ParsedFile(path, attributes.size(), attributes.lastModifiedTime().toMillis(), questions);
+        this.parsedFiles.put(path, parsed);
+        return parsed;
+    }
+
+    private void streamImport(Path path, Consumer<Question> sink) {
+        long startedAt = System.nanoTime();
+        try {
+            int imported = QuestionImporter.stream(path, this.logger, sink);
+            this.logger.debug("Streamed " + imported + " questions from " + this.describe(path) + " in "
+                + (System.nanoTime() - startedAt) / 1_000_000L + "ms.");
+        } catch (IOException exception) {
+            this.logger.warn("Could not read " + this.describe(path) + ". Its questions were skipped.", exception);
+        }
+    }
+
+    private void compile(List<Path> sources, Path bankFile, byte[] sourceHash) throws IOException {
+        long startedAt = System.nanoTime();
+        int compiled;
+        try (QuestionBankWriter writer = new QuestionBankWriter(bankFile, sourceHash)) {
+            this.mergeSources(sources, question -> {
+                try {
+                    writer.add(question);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+            compiled = writer.size();
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        this.logger.info("Compiled " + compiled + " questions into " + BANK_FILE + " in "
+            + (System.nanoTime() - startedAt) / 1_000_000L + "ms.");
+    }
+
+    private String describe(Path path) {
+        return this.dataFolder.toPath().relativize(path).toString().replace(File.separatorChar, '/');
+    }
+
+    private static boolean isYamlFile(Path path) {
+        String name = path.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".yml") || name.endsWith(".yaml");
+    }
+
+    /**
+     * Everything the plugin needs from disk to rebuild its managers.
+     */
+    public record LoadedContent(QuestionBank questions, Map<String, RewardDefinition> rewardProfiles) {
+    }
+
+    private record ParsedFile(Path path, long size, long modifiedMillis, List<Question> questions) {
+    }
+}
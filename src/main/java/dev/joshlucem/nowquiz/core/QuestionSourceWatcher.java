@@ -0,0 +1,181 @@
+package dev.joshlucem.nowquiz.core;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Watches {@code questions.yml} and {@code questions.d/} and triggers a hot reload after edits settle.
+ *
+ * <p>Editors usually emit several events per save, so changes are debounced before the callback
+ * runs. The callback runs on the watcher thread and is awaited, which keeps hot reloads strictly
+ * sequential; closing the watcher interrupts that wait.</p>
+ *
+ * <p>{@code questions.d/} is watched as soon as it exists, including when it is created after
+ * the watcher started.</p>
+ */
+public final class QuestionSourceWatcher implements AutoCloseable {
+
+    private static final long DEBOUNCE_MILLIS = 750L;
+
+    private final Path dataFolder;
+    private final Path sourceFile;
+    private final Path sourceDirectory;
+    private final PluginLogger logger;
+    private final Supplier<CompletableFuture<?>> onChange;
+    private final WatchService watchService;
+    private final Thread thread;
+    private volatile boolean running;
+
+    private QuestionSourceWatcher(
+        Path dataFolder,
+        PluginLogger logger,
+        Supplier<CompletableFuture<?>> onChange,
+        WatchService watchService
+    ) {
+        this.dataFolder = dataFolder;
+        this.sourceFile = dataFolder.resolve("questions.yml");
+        this.sourceDirectory = dataFolder.resolve("questions.d");
+        this.logger = logger;
+        this.onChange = onChange;
+        this.watchService = watchService;
+        this.thread = new Thread(this::run, "NowQuiz-Watcher");
+        this.thread.setDaemon(true);
+    }
+
+    public static QuestionSourceWatcher start(Path dataFolder, PluginLogger logger, Supplier<CompletableFuture<?>> onChange)
+        throws IOException {
+        WatchService watchService = FileSystems.getDefault().newWatchService();
+        QuestionSourceWatcher watcher = new QuestionSourceWatcher(dataFolder, logger, onChange, watchService);
+        try {
+            watcher.register(dataFolder);
+            watcher.watchSourceDirectory();
+        } catch (IOException exception) {
+            watchService.close();
+            throw exception;
+        }
+
+        watcher.running = true;
+        watcher.thread.start();
+        return watcher;
+    }
+
+    @Override
+    public void close() {
+        this.running = false;
+        try {
+            this.watchService.close();
+        } catch (IOException exception) {
+            this.logger.debug("Could not close the question watcher cleanly: " + exception.getMessage());
+        }
+        this.thread.interrupt();
+    }
+
+    private void register(Path directory) throws IOException {
+        directory.register(
+            this.watchService,
+            StandardWatchEventKinds.ENTRY_CREATE,
+            StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE
+        );
+    }
+
+    /**
+     * Registers {@code questions.d/} when it exists. Registering an already watched directory is a no-op.
+     */
+    private void watchSourceDirectory() throws IOException {
+        if (Files.isDirectory(this.sourceDirectory)) {
+            this.register(this.sourceDirectory);
+        }
+    }
+
+    private void run() {
+        boolean pending = false;
+        long deadline = 0L;
+
+        while (this.running) {
+            WatchKey key;
+            try {
+                key = pending
+                    ? this.watchService.poll(Math.max(1L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS)
+                    : this.watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException exception) {
+                return;
+            }
+
+            if (key != null) {
+                Path directory = (Path) key.watchable();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    boolean overflow = event.kind() == StandardWatchEventKinds.OVERFLOW;
+                    Path changed = overflow ? null : directory.resolve((Path) event.context());
+                    boolean directoryAppeared = overflow || changed.equals(this.sourceDirectory);
+                    if (directoryAppeared) {
+                        this.tryWatchSourceDirectory();
+                    }
+                    if (directoryAppeared || this.isRelevant(changed)) {
+                        pending = true;
+                        deadline = System.currentTimeMillis() + DEBOUNCE_MILLIS;
+                    }
+                }
+                key.reset();
+                continue;
+            }
+
+            if (pending && System.currentTimeMillis() >= deadline) {
+                pending = false;
+                this.fire();
+            }
+        }
+    }
+
+    private void tryWatchSourceDirectory() {
+        try {
+            this.watchSourceDirectory();
+        } catch (IOException exception) {
+            this.logger.warn("Could not watch questions.d/ for changes.", exception);
+        }
+    }
+
+    private void fire() {
+        try {
+            this.onChange.get().get();
+        } catch (InterruptedException exception) {
+            // close() interrupts the wait; the reload itself finishes or fails on its own.
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause() == null ? exception : exception.getCause();
+            this.logger.warn("Hot reload of questions failed.", cause);
+        } catch (RuntimeException exception) {
+            this.logger.warn("Hot reload of questions failed.", exception);
+        }
+    }
+
+    private boolean isRelevant(Path changed) {
+        if (changed.equals(this.sourceFile)) {
+            return true;
+        }
+
+        if (!this.sourceDirectory.equals(changed.getParent())) {
+            return false;
+        }
+
+        String name = changed.getFileName().toString().toLowerCase(Locale.ROOT);
+        return !name.startsWith(".") && !name.endsWith(".tmp") && !name.endsWith("~");
+    }
+
+    @Override
+    public String toString() {
+        return "QuestionSourceWatcher[" + this.dataFolder + "]";
+    }
+}
@@ -0,0 +1,44 @@
+package dev.joshlucem.nowquiz.listeners;
+
+import com.destroystokyo.paper.event.player.PlayerClientOptionsChangeEvent;
+import dev.joshlucem.nowquiz.core.NowQuizPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Keeps the round audience index in sync with who is online, where and with chat visible.
+ */
+public final class AudienceListener implements Listener {
+
+    private final NowQuizPlugin plugin;
+
+    public AudienceListener(NowQuizPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        this.plugin.getAudienceIndex().refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        this.plugin.getAudienceIndex().remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        this.plugin.getAudienceIndex().refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onClientOptions(PlayerClientOptionsChangeEvent event) {
+        if (event.hasChatVisibilityChanged()) {
+            this.plugin.getAudienceIndex().refresh(event.getPlayer(), event.getChatVisibility());
+        }
+    }
+}
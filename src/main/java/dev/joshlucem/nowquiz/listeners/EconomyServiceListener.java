@@ -0,0 +1,30 @@
+package dev.joshlucem.nowquiz.listeners;
+
+import dev.joshlucem.nowquiz.core.NowQuizPlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.ServiceRegisterEvent;
+import org.bukkit.event.server.ServiceUnregisterEvent;
+
+/**
+ * Rebinds Vault money rewards when an economy provider is registered or removed.
+ */
+public final class EconomyServiceListener implements Listener {
+
+    private final NowQuizPlugin plugin;
+
+    public EconomyServiceListener(NowQuizPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRegister(ServiceRegisterEvent event) {
+        this.plugin.getRewardManager().economy().onServiceChange(event.getProvider().getService());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onUnregister(ServiceUnregisterEvent event) {
+        this.plugin.getRewardManager().economy().onServiceChange(event.getProvider().getService());
+    }
+}
@@ -8,7 +8,7 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
 /**
- * Tracks simple session timing for eligibility checks.
+ * Tracks simple session timing for eligibility checks and releases per-player answer state on quit.
  */
 public final class PlayerSessionListener implements Listener {
 
@@ -26,5 +26,6 @@ public final class PlayerSessionListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public void onQuit(PlayerQuitEvent event) {
         this.plugin.clearPlayerSession(event.getPlayer().getUniqueId());
+        this.plugin.getAnswerService().forgetPlayer(event.getPlayer().getUniqueId());
     }
 }
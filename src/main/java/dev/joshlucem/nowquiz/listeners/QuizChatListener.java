@@ -1,9 +1,9 @@
 package dev.joshlucem.nowquiz.listeners;
 
 import dev.joshlucem.nowquiz.core.NowQuizPlugin;
+import dev.joshlucem.nowquiz.manager.AnswerService;
 import io.papermc.paper.event.player.AsyncChatEvent;
-import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
-import org.bukkit.Bukkit;
+import java.util.Optional;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -21,13 +21,12 @@ public final class QuizChatListener implements Listener {
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
     public void onAsyncChat(AsyncChatEvent event) {
-        String message = PlainTextComponentSerializer.plainText().serialize(event.message());
-        if (!this.plugin.getAnswerService().shouldCaptureChat(event.getPlayer(), message)) {
+        Optional<AnswerService.ChatAnswer> answer = this.plugin.getAnswerService().captureChatAnswer(event.getPlayer(), event.message());
+        if (answer.isEmpty()) {
             return;
         }
 
         event.setCancelled(true);
-        String answer = this.plugin.getAnswerService().extractChatAnswer(message);
-        Bukkit.getScheduler().runTask(this.plugin, () -> this.plugin.getAnswerService().submitChatAnswer(event.getPlayer(), answer));
+        this.plugin.getAnswerService().submitChatAnswer(event.getPlayer(), answer.get());
     }
 }
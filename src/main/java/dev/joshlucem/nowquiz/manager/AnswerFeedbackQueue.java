@@ -0,0 +1,110 @@
+package dev.joshlucem.nowquiz.manager;
+
+import dev.joshlucem.nowquiz.core.DebugMetrics;
+import dev.joshlucem.nowquiz.core.MessageService;
+import dev.joshlucem.nowquiz.core.NowQuizPlugin;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Multi-producer queue for answer feedback, drained once per tick on the main thread.
+ *
+ * <p>Chat threads and commands only enqueue. A single repeating task takes the whole batch,
+ * renders it and sends each player one message with all of their lines, so an answer storm
+ * costs one scheduler entry per tick instead of one per answer.</p>
+ *
+ * <p>The queue lives as long as the plugin, so a chat thread still holding an answer service
+ * from before a reload keeps delivering into a queue that is drained. Replies are rendered with
+ * the message service that is current when they are drained.</p>
+ */
+public final class AnswerFeedbackQueue {
+
+    private final NowQuizPlugin plugin;
+    private final DebugMetrics metrics;
+    private final ConcurrentLinkedQueue<Reply> pending;
+    private BukkitTask drainTask;
+
+    public AnswerFeedbackQueue(NowQuizPlugin plugin, DebugMetrics metrics) {
+        this.plugin = plugin;
+        this.metrics = metrics;
+        this.pending = new ConcurrentLinkedQueue<>();
+    }
+
+    public void start() {
+        if (this.drainTask == null) {
+            this.drainTask = Bukkit.getScheduler().runTaskTimer(this.plugin, this::drain, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops the drain task and delivers whatever is still queued.
+     */
+    public void shutdown() {
+        if (this.drainTask != null) {
+            this.drainTask.cancel();
+            this.drainTask = null;
+        }
+        this.drain();
+    }
+
+    public void offer(Player player, String path, Map<String, String> placeholders) {
+        this.pending.offer(new Reply(player, path, placeholders));
+    }
+
+    private void drain() {
+        AnswerService answerService = this.plugin.getAnswerService();
+        if (answerService != null) {
+            answerService.sampleMetrics();
+        }
+
+        if (this.pending.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        MessageService messageService = this.plugin.getMessageService();
+        Map<UUID, List<Component>> lines = new LinkedHashMap<>();
+        Map<UUID, Player> players = new LinkedHashMap<>();
+        int batch = 0;
+        Reply reply;
+        while ((reply = this.pending.poll()) != null) {
+            batch++;
+            UUID playerId = reply.player().getUniqueId();
+            players.putIfAbsent(playerId, reply.player());
+            lines.computeIfAbsent(playerId, ignored -> new ArrayList<>(2))
+                .add(messageService.bundle(reply.player()).render(reply.path(), reply.placeholders()));
+        }
+
+        for (Map.Entry<UUID, List<Component>> entry : lines.entrySet()) {
+            Player player = players.get(entry.getKey());
+            if (!player.isOnline()) {
+                continue;
+            }
+
+            List<Component> playerLines = entry.getValue();
+            player.sendMessage(playerLines.size() == 1
+                ? playerLines.getFirst()
+                : Component.join(JoinConfiguration.newlines(), playerLines));
+        }
+
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000L;
+        this.metrics.increment("feedback.drains");
+        this.metrics.add("feedback.replies", batch);
+        this.metrics.set("feedback.batch-last", batch);
+        this.metrics.max("feedback.batch-max", batch);
+        this.metrics.set("feedback.drain-us-last", elapsedMicros);
+        this.metrics.max("feedback.drain-us-max", elapsedMicros);
+    }
+
+    private record Reply(Player player, String path, Map<String, String> placeholders) {
+    }
+}
@@ -1,5 +1,6 @@
 package dev.joshlucem.nowquiz.manager;
 
+import dev.joshlucem.nowquiz.core.DebugMetrics;
 import dev.joshlucem.nowquiz.core.MessageService;
 import dev.joshlucem.nowquiz.core.NowQuizPlugin;
 import dev.joshlucem.nowquiz.core.NowQuizSettings;
@@ -7,10 +8,17 @@ import dev.joshlucem.nowquiz.quiz.PlayerAnswer;
 import dev.joshlucem.nowquiz.quiz.Question;
 import dev.joshlucem.nowquiz.quiz.QuestionType;
 import dev.joshlucem.nowquiz.quiz.QuizRound;
+import dev.joshlucem.nowquiz.quiz.ResolvedAnswer;
+import dev.joshlucem.nowquiz.util.PlayerRateLimiter;
 import dev.joshlucem.nowquiz.util.TextUtil;
+import dev.joshlucem.nowquiz.util.TokenBucket;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
@@ -23,77 +31,129 @@ public final class AnswerService {
     private final NowQuizSettings settings;
     private final MessageService messageService;
     private final RoundManager roundManager;
-    private final Map<UUID, Long> cooldowns;
+    private final AnswerFeedbackQueue feedback;
+    private final DebugMetrics metrics;
+    private final PlayerRateLimiter playerLimiter;
+    private final TokenBucket globalLimiter;
 
-    public AnswerService(NowQuizPlugin plugin, NowQuizSettings settings, MessageService messageService, RoundManager roundManager) {
+    public AnswerService(
+        NowQuizPlugin plugin,
+        NowQuizSettings settings,
+        MessageService messageService,
+        RoundManager roundManager,
+        AnswerFeedbackQueue feedback,
+        DebugMetrics metrics
+    ) {
         this.plugin = plugin;
         this.settings = settings;
         this.messageService = messageService;
         this.roundManager = roundManager;
-        this.cooldowns = new ConcurrentHashMap<>();
+        this.feedback = feedback;
+        this.metrics = metrics;
+        this.playerLimiter = settings.answerCooldownMs() > 0L
+            ? new PlayerRateLimiter(TimeUnit.MILLISECONDS.toNanos(settings.answerCooldownMs()), settings.answerBurst(), System.nanoTime())
+            : null;
+        this.globalLimiter = settings.globalAnswersPerSecond() > 0
+            ? new TokenBucket(TimeUnit.SECONDS.toNanos(1L) / settings.globalAnswersPerSecond(), settings.globalAnswersPerSecond())
+            : null;
     }
 
+    /**
+     * Drops the player's rate limit bucket when they leave.
+     */
+    public void forgetPlayer(UUID playerId) {
+        if (this.playerLimiter != null) {
+            this.playerLimiter.forget(playerId);
+        }
+    }
+
+    /**
+     * Records a typed {@code /nowquiz answer}. Rounds whose options were sent as click callbacks
+     * only take clicks and chat answers, so the command cannot be used to answer them faster than
+     * a click.
+     */
     public void submitCommandAnswer(CommandSender sender, long roundId, String rawAnswer) {
         if (!(sender instanceof Player player)) {
             this.messageService.send(sender, "errors.player-only");
             return;
         }
 
-        this.submit(player, roundId, rawAnswer);
-    }
-
-    public void submitChatAnswer(Player player, String rawAnswer) {
         QuizRound round = this.roundManager.getActiveRound();
-        if (round == null) {
+        if (round != null && round.roundId() == roundId && this.roundManager.usesClickCallbacks(round.question())) {
+            this.reply(player, "errors.click-to-answer", Map.of());
             return;
         }
 
-        this.submit(player, round.roundId(), rawAnswer);
+        this.submit(player, roundId, rawAnswer, null);
     }
 
     /**
-     * Returns whether a chat message should be intercepted as a quiz answer.
+     * Records an option click delivered through a click callback, already resolved when the round was prepared.
      */
-    public boolean shouldCaptureChat(Player player, String rawMessage) {
+    public void submitClickAnswer(Player player, long roundId, ResolvedAnswer answer) {
+        this.submit(player, roundId, answer.input(), answer);
+    }
+
+    /**
+     * Records an answer resolved by {@link #captureChatAnswer(Player, Component)} on the calling chat thread.
+     *
+     * <p>Validation and the answer slot are thread-safe; only the player feedback goes to the
+     * main thread, through the per-tick feedback queue.</p>
+     */
+    public void submitChatAnswer(Player player, ChatAnswer answer) {
+        this.submit(player, answer.roundId(), answer.answer().input(), answer.answer());
+    }
+
+    /**
+     * Decides whether a chat message is a quiz answer and, if so, resolves it against the active round.
+     *
+     * <p>Runs on the chat thread for every chat message, so the cheap checks come first: chat
+     * answers enabled, an open round the player may answer, and the round's prefilter. Only then
+     * is the message flattened to plain text (plain chat is read straight from the text
+     * component) and resolved. The resolution is handed to {@link #submitChatAnswer(Player, ChatAnswer)}
+     * so the answer is not parsed a second time on the main thread.</p>
+     */
+    public Optional<ChatAnswer> captureChatAnswer(Player player, Component message) {
         if (!this.settings.allowChatAnswers()) {
-            return false;
+            return Optional.empty();
         }
 
         QuizRound round = this.roundManager.getActiveRound();
-        if (round == null || !round.isOpen() || !round.isEligible(player.getUniqueId())) {
-            return false;
+        if (round == null || !round.isOpen() || !round.chatPrefilter().capturesChat() || !round.isEligible(player.getUniqueId())) {
+            return Optional.empty();
         }
 
-        String trimmed = rawMessage == null ? "" : rawMessage.trim();
-        if (trimmed.isBlank()) {
-            return false;
+        String text = message instanceof TextComponent textComponent && textComponent.children().isEmpty()
+            ? textComponent.content()
+            : PlainTextComponentSerializer.plainText().serialize(message);
+        if (!round.chatPrefilter().mayMatch(text)) {
+            return Optional.empty();
         }
 
+        String trimmed = text.trim();
         String prefix = this.settings.chatPrefix();
         if (prefix != null && !prefix.isBlank()) {
-            return trimmed.length() > prefix.length() && trimmed.startsWith(prefix);
-        }
-
-        if (round.question().type() == QuestionType.OPEN) {
-            return false;
+            String answer = trimmed.substring(prefix.length());
+            return Optional.of(new ChatAnswer(round.roundId(), round.question().resolve(answer, this.settings.typoTolerance())));
         }
 
-        return round.question().resolveOptionKey(trimmed).isPresent();
-    }
-
-    public String extractChatAnswer(String rawMessage) {
-        String trimmed = rawMessage == null ? "" : rawMessage.trim();
-        String prefix = this.settings.chatPrefix();
-        if (prefix != null && !prefix.isBlank() && trimmed.startsWith(prefix)) {
-            return trimmed.substring(prefix.length()).trim();
-        }
-        return trimmed;
+        ResolvedAnswer answer = round.question().resolve(trimmed, this.settings.typoTolerance());
+        return answer.matchesOption() ? Optional.of(new ChatAnswer(round.roundId(), answer)) : Optional.empty();
     }
 
-    private void submit(Player player, long roundId, String rawAnswer) {
+    /**
+     * Validates and records one answer.
+     *
+     * <p>Every rejection that does not depend on the rate limit runs first: stale round,
+     * eligibility, delivery, duplicate, too fast, blank and invalid option. Only an answer that
+     * would otherwise be recorded spends a rate-limit token. Chat and click answers arrive
+     * already resolved; only typed {@code /nowquiz answer} commands are resolved here, which is
+     * bounded by the command rate of a single player.</p>
+     */
+    private void submit(Player player, long roundId, String rawAnswer, ResolvedAnswer resolved) {
         QuizRound round = this.roundManager.getActiveRound();
         if (round == null || !round.isOpen() || round.roundId() != roundId) {
-            this.messageService.send(player, "errors.invalid-round");
+            this.reply(player, "errors.invalid-round", Map.of());
             return;
         }
 
@@ -101,72 +161,139 @@ public final class AnswerService {
             return;
         }
 
-        long now = System.currentTimeMillis();
-        long lastAttempt = this.cooldowns.getOrDefault(player.getUniqueId(), 0L);
-        if (this.settings.answerCooldownMs() > 0L && now - lastAttempt < this.settings.answerCooldownMs()) {
-            long remaining = this.settings.answerCooldownMs() - (now - lastAttempt);
-            this.messageService.send(player, "errors.cooldown", Map.of("time", TextUtil.formatMillis(remaining)));
+        // Timing starts when this player received the question, which can lag behind with chunked broadcasts.
+        long deliveredAt = round.deliveredAtMillis(player.getUniqueId());
+        if (deliveredAt < 0L) {
+            this.reply(player, "errors.invalid-round", Map.of());
             return;
         }
 
         if (round.hasAnswered(player.getUniqueId())) {
-            this.messageService.send(player, "errors.already-answered");
+            this.reply(player, "errors.already-answered", Map.of());
             return;
         }
 
-        if (this.settings.minHumanMs() > 0L && now - round.startedAtMillis() < this.settings.minHumanMs()) {
-            this.cooldowns.put(player.getUniqueId(), now);
-            this.messageService.send(player, "errors.too-fast");
+        long now = System.currentTimeMillis();
+        if (this.settings.minHumanMs() > 0L && now - deliveredAt < this.settings.minHumanMs()) {
+            this.reply(player, "errors.too-fast", Map.of());
             return;
         }
 
         Question question = round.question();
-        String answerText = rawAnswer == null ? "" : rawAnswer.trim();
+        ResolvedAnswer resolution = resolved != null ? resolved : question.resolve(rawAnswer, this.settings.typoTolerance());
+        String answerText = resolution.input();
         if (answerText.isBlank()) {
-            this.messageService.send(player, "errors.invalid-option");
+            this.reply(player, "errors.invalid-option", Map.of());
             return;
         }
 
-        if (question.type() != QuestionType.OPEN && question.resolveOptionKey(answerText).isEmpty()) {
-            this.cooldowns.put(player.getUniqueId(), now);
-            this.messageService.send(player, "errors.invalid-option");
+        if (question.type() != QuestionType.OPEN && !resolution.matchesOption()) {
+            this.reply(player, "errors.invalid-option", Map.of());
             return;
         }
 
-        boolean correct = question.isCorrect(answerText);
-        boolean rewardEligible = !correct || this.plugin.isRewardEligible(player);
-        if (correct && !rewardEligible) {
-            this.messageService.send(player, "errors.ineligible");
+        long nowNanos = System.nanoTime();
+        long waitNanos = this.acquireToken(player.getUniqueId(), nowNanos);
+        if (waitNanos > 0L) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(waitNanos + 999_999L);
+            this.reply(player, "errors.cooldown", Map.of("time", TextUtil.formatMillis(remaining)));
+            return;
         }
 
+        boolean correct = resolution.correct();
+        boolean rewardEligible = !correct || this.plugin.isRewardEligible(player);
+
         PlayerAnswer answer = new PlayerAnswer(
             player.getUniqueId(),
             player.getName(),
             answerText,
             now,
-            Math.max(0L, now - round.startedAtMillis()),
+            nowNanos,
+            Math.max(0L, now - deliveredAt),
             correct,
             rewardEligible
         );
 
         if (!round.recordAnswer(answer)) {
-            this.messageService.send(player, "errors.already-answered");
+            // The round may have closed on the main thread while this answer was being checked.
+            this.reply(player, round.isOpen() ? "errors.already-answered" : "errors.invalid-round", Map.of());
             return;
         }
 
-        this.cooldowns.put(player.getUniqueId(), now);
+        if (round.closesOnFirstCorrect() && (round.ranksByResponseTime() ? round.confirmClaim(now) != null : round.claimedWinner() == answer)) {
+            this.roundManager.finishClaimedRound(round);
+        }
+
+        if (correct && !rewardEligible) {
+            this.reply(player, "errors.ineligible", Map.of());
+        }
+
         if (question.type() == QuestionType.OPEN) {
-            this.messageService.send(player, "feedback.accepted-open");
+            this.reply(player, "feedback.accepted-open", Map.of());
             return;
         }
 
-        this.messageService.send(
+        this.reply(
             player,
             correct ? "feedback.correct" : "feedback.incorrect",
             Map.of(
                 "correct", question.correctAnswerDisplay(),
-                "answer", question.displayFor(answerText)
+                "answer", question.displayFor(resolution)
             )
         );
     }
+
+    /**
+     * Publishes gauges that would cost a lock on every answer; called once per tick.
+     */
+    public void sampleMetrics() {
+        if (this.playerLimiter != null) {
+            this.metrics.set("ratelimit.players-tracked", this.playerLimiter.size());
+        }
+    }
+
+    /**
+     * Checks the player's bucket, takes a token from the server-wide one and only then from the player's.
+     *
+     * <p>A player is never charged for an answer the global limit turns away. Two answers from
+     * the same player racing between the check and the take can still cost one global token.</p>
+     *
+     * @return {@code 0} when the answer may proceed, otherwise the nanoseconds to wait
+     */
+    private long acquireToken(UUID playerId, long nowNanos) {
+        if (this.playerLimiter != null) {
+            long wait = this.playerLimiter.waitNanos(playerId, nowNanos);
+            if (wait > 0L) {
+                this.metrics.increment("ratelimit.player-rejected");
+                return wait;
+            }
+        }
+
+        if (this.globalLimiter != null) {
+            long wait = this.globalLimiter.tryAcquire(nowNanos);
+            if (wait > 0L) {
+                this.metrics.increment("ratelimit.global-rejected");
+                return wait;
+            }
+        }
+
+        if (this.playerLimiter != null) {
+            long wait = this.playerLimiter.tryAcquire(playerId, nowNanos);
+            if (wait > 0L) {
+                this.metrics.increment("ratelimit.player-rejected");
+                return wait;
+            }
+        }
+        return 0L;
+    }
+
+    private void reply(Player player, String key, Map<String, String> placeholders) {
+        this.feedback.offer(player, key, placeholders);
+    }
+
+    /**
+     * A chat answer resolved on the chat thread for the round that was active at the time.
+     */
+    public record ChatAnswer(long roundId, ResolvedAnswer answer) {
+    }
 }
@@ -0,0 +1,172 @@
+package dev.joshlucem.nowquiz.manager;
+
+import com.destroystokyo.paper.ClientOption;
+import dev.joshlucem.nowquiz.core.NowQuizSettings;
+import dev.joshlucem.nowquiz.core.PluginLogger;
+import dev.joshlucem.nowquiz.util.BroadcastScope;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Online players who may receive quiz rounds, grouped by world.
+ *
+ * <p>The index is updated from join, quit, world change and client option events, so selecting
+ * a round audience does not touch the online players. Bukkit has no event for permission
+ * changes: with LuckPerms installed its recalculation event refreshes the affected player,
+ * otherwise a permission change applies on the player's next join or world change, or on
+ * {@code /nowquiz reload}, which rechecks everyone. Answers are still checked against the
+ * round's own audience. Snapshots handed to rounds are immutable and cached until the next
+ * change. Main thread only.</p>
+ */
+public final class AudienceIndex {
+
+    private static final String EVERY_WORLD = "";
+
+    private final Plugin plugin;
+    private final NowQuizSettings settings;
+    private final PluginLogger logger;
+    private final Map<UUID, Member> members;
+    private final Map<String, Map<UUID, Player>> byWorld;
+    private final Map<String, Audience> snapshots;
+    private LuckPermsHook permissionHook;
+    private boolean running;
+
+    public AudienceIndex(Plugin plugin, NowQuizSettings settings, PluginLogger logger) {
+        this.plugin = plugin;
+        this.settings = settings;
+        this.logger = logger;
+        this.members = new LinkedHashMap<>();
+        this.byWorld = new HashMap<>();
+        this.snapshots = new HashMap<>();
+    }
+
+    public void start() {
+        this.running = true;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            this.refresh(player);
+        }
+        this.permissionHook = LuckPermsHook.subscribe(this.plugin, this.logger, playerId ->
+            Bukkit.getScheduler().runTask(this.plugin, () -> this.refreshPermissions(playerId))
+        );
+    }
+
+    public void shutdown() {
+        this.running = false;
+        if (this.permissionHook != null) {
+            this.permissionHook.close();
+            this.permissionHook = null;
+        }
+        this.members.clear();
+        this.byWorld.clear();
+        this.snapshots.clear();
+    }
+
+    /**
+     * Re-evaluates one player after they joined, changed world or had their permissions recalculated.
+     */
+    public void refresh(Player player) {
+        this.refresh(player, player.getClientOption(ClientOption.CHAT_VISIBILITY));
+    }
+
+    /**
+     * Same as {@link #refresh(Player)}, with the chat visibility the client just reported.
+     */
+    public void refresh(Player player, ClientOption.ChatVisibility chatVisibility) {
+        if (!player.isOnline() || !this.qualifies(player, chatVisibility)) {
+            this.remove(player.getUniqueId());
+            return;
+        }
+
+        String world = player.getWorld().getName().toLowerCase(Locale.ROOT);
+        Member current = this.members.get(player.getUniqueId());
+        if (current != null && current.player() == player && current.world().equals(world)) {
+            return;
+        }
+
+        this.remove(player.getUniqueId());
+        this.members.put(player.getUniqueId(), new Member(player, world));
+        this.byWorld.computeIfAbsent(world, ignored -> new LinkedHashMap<>()).put(player.getUniqueId(), player);
+        this.snapshots.clear();
+    }
+
+    public void remove(UUID playerId) {
+        Member removed = this.members.remove(playerId);
+        if (removed == null) {
+            return;
+        }
+
+        Map<UUID, Player> world = this.byWorld.get(removed.world());
+        if (world != null) {
+            world.remove(playerId);
+            if (world.isEmpty()) {
+                this.byWorld.remove(removed.world());
+            }
+        }
+        this.snapshots.clear();
+    }
+
+    /**
+     * Players who receive a round anchored in {@code worldName}; a blank name selects every world.
+     */
+    public Audience select(String worldName) {
+        String key = worldName == null || worldName.isBlank() ? EVERY_WORLD : worldName.toLowerCase(Locale.ROOT);
+        Audience cached = this.snapshots.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<Player> players = new ArrayList<>();
+        if (key.equals(EVERY_WORLD)) {
+            this.members.values().forEach(member -> players.add(member.player()));
+        } else {
+            players.addAll(this.byWorld.getOrDefault(key, Map.of()).values());
+        }
+
+        Audience audience = new Audience(
+            Set.copyOf(players.stream().map(Player::getUniqueId).toList()),
+            List.copyOf(players)
+        );
+        this.snapshots.put(key, audience);
+        return audience;
+    }
+
+    private void refreshPermissions(UUID playerId) {
+        // The update may have been queued just before a reload replaced this index.
+        if (!this.running) {
+            return;
+        }
+
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null) {
+            this.refresh(player);
+        }
+    }
+
+    private boolean qualifies(Player player, ClientOption.ChatVisibility chatVisibility) {
+        if (chatVisibility == ClientOption.ChatVisibility.HIDDEN || !player.hasPermission("nowquiz.use")) {
+            return false;
+        }
+
+        return this.settings.broadcastScope() != BroadcastScope.PERMISSION
+            || this.settings.broadcastPermission().isBlank()
+            || player.hasPermission(this.settings.broadcastPermission());
+    }
+
+    /**
+     * Immutable set of recipients captured when a round starts.
+     */
+    public record Audience(Set<UUID> playerIds, List<Player> players) {
+    }
+
+    private record Member(Player player, String world) {
+    }
+}
@@ -0,0 +1,122 @@
+package dev.joshlucem.nowquiz.manager;
+
+import dev.joshlucem.nowquiz.core.PluginLogger;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.RegisteredServiceProvider;
+
+/**
+ * Deposits money through the Vault economy without a compile-time dependency on Vault.
+ *
+ * <p>The registered provider's {@code depositPlayer} and the {@code EconomyResponse} accessors
+ * are looked up once and kept as method handles, so a reward is a direct call instead of a
+ * reflective lookup. The binding is refreshed when an economy provider is registered or
+ * unregistered, which covers economy plugins that load after NowQuiz. Main thread only.</p>
+ */
+public final class EconomyBridge {
+
+    private static final String ECONOMY_CLASS = "net.milkbowl.vault.economy.Economy";
+    private static final String RESPONSE_CLASS = "net.milkbowl.vault.economy.EconomyResponse";
+
+    private final PluginLogger logger;
+    private final boolean enabled;
+    private Binding binding;
+
+    public EconomyBridge(PluginLogger logger, boolean enabled) {
+        this.logger = logger;
+        this.enabled = enabled;
+        this.rebind();
+    }
+
+    public boolean available() {
+        return this.binding != null;
+    }
+
+    /**
+     * Re-resolves the provider when {@code service} is the Vault economy; other services are ignored.
+     */
+    public void onServiceChange(Class<?> service) {
+        if (this.enabled && service != null && service.getName().equals(ECONOMY_CLASS)) {
+            this.rebind();
+        }
+    }
+
+    /**
+     * Deposits {@code amount} and reports whether the economy accepted the transaction.
+     */
+    public boolean deposit(OfflinePlayer player, double amount) {
+        Binding current = this.binding;
+        if (current == null) {
+            return false;
+        }
+
+        try {
+            Object response = current.deposit().invokeExact(player, amount);
+            if (response != null && (boolean) current.transactionSuccess().invokeExact(response)) {
+                return true;
+            }
+
+            String error = response == null ? null : (String) current.errorMessage().invokeExact(response);
+            this.logger.warn("Vault refused a reward deposit for " + player.getName() + ": " + (error == null ? "unknown error" : error));
+            return false;
+        } catch (Throwable throwable) {
+            this.logger.warn("Failed to deposit a Vault reward for " + player.getName() + ".", throwable);
+            return false;
+        }
+    }
+
+    private void rebind() {
+        if (!this.enabled) {
+            this.logger.debug("Vault hook disabled in config.");
+            return;
+        }
+
+        Binding previous = this.binding;
+        this.binding = this.resolve();
+        if (this.binding == null) {
+            this.logger.debug(previous == null
+                ? "Vault was not found or no economy provider is registered."
+                : "Vault economy provider was unregistered.");
+        } else if (previous == null || previous.provider() != this.binding.provider()) {
+            this.logger.debug("Vault economy provider detected: " + this.binding.provider().getClass().getName() + ".");
+        }
+    }
+
+    private Binding resolve() {
+        try {
+            Class<?> economyClass = Class.forName(ECONOMY_CLASS);
+            Class<?> responseClass = Class.forName(RESPONSE_CLASS);
+            @SuppressWarnings({"rawtypes", "unchecked"})
+            RegisteredServiceProvider<?> registration = Bukkit.getServicesManager().getRegistration((Class) economyClass);
+            if (registration == null || registration.getProvider() == null) {
+                return null;
+            }
+
+            Object provider = registration.getProvider();
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle deposit = lookup.findVirtual(
+                    economyClass,
+                    "depositPlayer",
+                    MethodType.methodType(responseClass, OfflinePlayer.class, double.class)
+                )
+                .bindTo(provider)
+                .asType(MethodType.methodType(Object.class, OfflinePlayer.class, double.class));
+            MethodHandle transactionSuccess = lookup.findVirtual(responseClass, "transactionSuccess", MethodType.methodType(boolean.class))
+                .asType(MethodType.methodType(boolean.class, Object.class));
+            MethodHandle errorMessage = lookup.findGetter(responseClass, "errorMessage", String.class)
+                .asType(MethodType.methodType(String.class, Object.class));
+            return new Binding(provider, deposit, transactionSuccess, errorMessage);
+        } catch (ClassNotFoundException exception) {
+            return null;
+        } catch (ReflectiveOperationException exception) {
+            this.logger.warn("The registered Vault economy does not expose the expected API. Money rewards will be skipped.", exception);
+            return null;
+        }
+    }
+
+    private record Binding(Object provider, MethodHandle deposit, MethodHandle transactionSuccess, MethodHandle errorMessage) {
+    }
+}
@@ -0,0 +1,76 @@
+package dev.joshlucem.nowquiz.manager;
+
+import dev.joshlucem.nowquiz.core.PluginLogger;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.bukkit.plugin.Plugin;
+
+/**
+ * Reports LuckPerms permission recalculations without a compile-time dependency on LuckPerms.
+ *
+ * <p>Subscribes to {@code UserDataRecalculateEvent} through the LuckPerms event bus when the
+ * API is on the classpath and does nothing otherwise. The listener receives the player id on
+ * whatever thread LuckPerms fired the event on.</p>
+ */
+final class LuckPermsHook {
+
+    private static final String PROVIDER_CLASS = "net.luckperms.api.LuckPermsProvider";
+    private static final String API_CLASS = "net.luckperms.api.LuckPerms";
+    private static final String EVENT_BUS_CLASS = "net.luckperms.api.event.EventBus";
+    private static final String EVENT_CLASS = "net.luckperms.api.event.user.UserDataRecalculateEvent";
+    private static final String USER_CLASS = "net.luckperms.api.model.user.User";
+
+    private final AutoCloseable subscription;
+
+    private LuckPermsHook(AutoCloseable subscription) {
+        this.subscription = subscription;
+    }
+
+    /**
+     * Subscribes {@code listener} to permission recalculations, or returns {@code null} when LuckPerms is absent.
+     */
+    static LuckPermsHook subscribe(Plugin plugin, PluginLogger logger, Consumer<UUID> listener) {
+        try {
+            Class<?> providerClass = Class.forName(PROVIDER_CLASS);
+            Class<?> eventClass = Class.forName(EVENT_CLASS);
+            Class<?> userClass = Class.forName(USER_CLASS);
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle userId = MethodHandles.filterReturnValue(
+                lookup.findVirtual(eventClass, "getUser", MethodType.methodType(userClass)),
+                lookup.findVirtual(userClass, "getUniqueId", MethodType.methodType(UUID.class))
+            ).asType(MethodType.methodType(UUID.class, Object.class));
+
+            Object luckPerms = providerClass.getMethod("get").invoke(null);
+            Object eventBus = Class.forName(API_CLASS).getMethod("getEventBus").invoke(luckPerms);
+            Consumer<Object> handler = event -> {
+                try {
+                    listener.accept((UUID) userId.invokeExact(event));
+                } catch (Throwable throwable) {
+                    logger.warn("Failed to read a LuckPerms permission update.", throwable);
+                }
+            };
+            Object subscription = Class.forName(EVENT_BUS_CLASS)
+                .getMethod("subscribe", Object.class, Class.class, Consumer.class)
+                .invoke(eventBus, plugin, eventClass, handler);
+            logger.debug("Listening for LuckPerms permission updates.");
+            return new LuckPermsHook((AutoCloseable) subscription);
+        } catch (ClassNotFoundException exception) {
+            return null;
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            // LuckPermsProvider.get() throws IllegalStateException while LuckPerms is not enabled.
+            logger.warn("LuckPerms is present but its event bus could not be used. Permission changes apply on the next join, world change or reload.", exception);
+            return null;
+        }
+    }
+
+    void close() {
+        try {
+            this.subscription.close();
+        } catch (Exception exception) {
+            // Closing a subscription only unregisters the handler; nothing to recover.
+        }
+    }
+}
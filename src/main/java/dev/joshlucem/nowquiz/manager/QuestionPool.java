@@ -3,6 +3,7 @@ package dev.joshlucem.nowquiz.manager;
 import dev.joshlucem.nowquiz.core.NowQuizSettings;
 import dev.joshlucem.nowquiz.core.PluginLogger;
 import dev.joshlucem.nowquiz.quiz.Question;
+import dev.joshlucem.nowquiz.quiz.QuestionBank;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -13,67 +14,72 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
-import java.util.stream.Collectors;
 
 /**
- * In-memory question cache with simple repeat avoidance.
+ * Question selection over a {@link QuestionBank} with simple repeat avoidance.
+ *
+ * <p>Selection only touches bank indexes and ids; the chosen question is the only one
+ * that gets materialized. The recent-question cache is the only mutable state and is guarded by
+ * the pool's monitor, so the next round can be picked off the main thread.</p>
  */
 public final class QuestionPool {
 
     private final NowQuizSettings settings;
     private final PluginLogger logger;
-    private final List<Question> questions;
-    private final Map<String, Question> byId;
-    private final Map<String, List<Question>> byCategory;
+    private final QuestionBank bank;
+    private final int[] allIndexes;
+    private final Map<String, Integer> byId;
+    private final Map<String, int[]> byCategory;
     private final Deque<String> recentIds;
 
     public QuestionPool(Collection<Question> questions, NowQuizSettings settings, PluginLogger logger) {
+        this(QuestionBank.of(List.copyOf(questions)), settings, logger);
+    }
+
+    public QuestionPool(QuestionBank bank, NowQuizSettings settings, PluginLogger logger) {
         this.settings = settings;
         this.logger = logger;
-        this.questions = List.copyOf(questions);
+        this.bank = bank;
+        this.allIndexes = new int[bank.size()];
         this.byId = new LinkedHashMap<>();
         this.byCategory = new LinkedHashMap<>();
         this.recentIds = new ArrayDeque<>();
 
-        for (Question question : this.questions) {
-            this.byId.put(question.id().toLowerCase(Locale.ROOT), question);
-            this.byCategory.computeIfAbsent(question.category().toLowerCase(Locale.ROOT), ignored -> new ArrayList<>())
-                .add(question);
+        Map<String, List<Integer>> categoryIndexes = new LinkedHashMap<>();
+        for (int index = 0; index < bank.size(); index++) {
+            this.allIndexes[index] = index;
+            this.byId.put(bank.id(index).toLowerCase(Locale.ROOT), index);
+            categoryIndexes.computeIfAbsent(bank.category(index).toLowerCase(Locale.ROOT), ignored -> new ArrayList<>())
+                .add(index);
         }
+
+        categoryIndexes.forEach((category, indexes) ->
+            this.byCategory.put(category, indexes.stream().mapToInt(Integer::intValue).toArray()));
     }
 
     public int size() {
-        return this.questions.size();
+        return this.bank.size();
     }
 
     public Optional<Question> findById(String questionId) {
         if (questionId == null || questionId.isBlank()) {
             return Optional.empty();
         }
-        return Optional.ofNullable(this.byId.get(questionId.toLowerCase(Locale.ROOT)));
+
+        Integer index = this.byId.get(questionId.toLowerCase(Locale.ROOT));
+        return index == null ? Optional.empty() : Optional.of(this.bank.load(index));
     }
 
-    public Optional<Question> pickRandom(String category) {
-        List<Question> candidates = category == null || category.isBlank()
-            ? this.questions
-            : this.byCategory.getOrDefault(category.toLowerCase(Locale.ROOT), List.of());
+    public synchronized Optional<Question> pickRandom(String category) {
+        int[] candidates = category == null || category.isBlank()
+            ? this.allIndexes
+            : this.byCategory.getOrDefault(category.toLowerCase(Locale.ROOT), new int[0]);
 
-        if (candidates.isEmpty()) {
+        if (candidates.length == 0) {
             return Optional.empty();
         }
 
-        List<Question> selectionPool = candidates;
-        if (this.settings.avoidRepeats() && this.settings.repeatCooldown() > 0 && candidates.size() > 1) {
-            selectionPool = candidates.stream()
-                .filter(question -> !this.recentIds.contains(question.id()))
-                .collect(Collectors.toCollection(ArrayList::new));
-
-            if (selectionPool.isEmpty()) {
-                selectionPool = candidates;
-            }
-        }
-
-        Question selected = selectionPool.get(ThreadLocalRandom.current().nextInt(selectionPool.size()));
+        Question selected = this.bank.load(this.pickIndex(candidates));
         this.remember(selected.id());
         return Optional.of(selected);
     }
@@ -86,6 +92,76 @@ public final class QuestionPool {
         return List.copyOf(this.byId.keySet());
     }
 
+    /**
+     * Compares this pool with the one it replaces by question id.
+     *
+     * <p>Entries are compared through {@link QuestionBank#sameQuestion}, so two compiled banks are
+     * diffed on their encoded records without decoding questions. Both banks are read-only, so
+     * this is safe to run off the main thread while the previous pool is still serving rounds.</p>
+     */
+    public Changes changesFrom(QuestionPool previous) {
+        int added = 0;
+        int changed = 0;
+        for (Map.Entry<String, Integer> entry : this.byId.entrySet()) {
+            Integer previousIndex = previous.byId.get(entry.getKey());
+            if (previousIndex == null) {
+                added++;
+            } else if (!this.bank.sameQuestion(entry.getValue(), previous.bank, previousIndex)) {
+                changed++;
+            }
+        }
+
+        int removed = 0;
+        for (String questionId : previous.byId.keySet()) {
+            if (!this.byId.containsKey(questionId)) {
+                removed++;
+            }
+        }
+        return new Changes(added, changed, removed);
+    }
+
+    /**
+     * Keeps repeat avoidance going across a hot reload. Ids that no longer exist are dropped.
+     */
+    public synchronized void inheritRecent(QuestionPool previous) {
+        synchronized (previous) {
+            for (String questionId : previous.recentIds) {
+                if (this.byId.containsKey(questionId.toLowerCase(Locale.ROOT))) {
+                    this.recentIds.addLast(questionId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Picks uniformly among candidates that are not in the recent cache, without copying the candidate set.
+     */
+    private int pickIndex(int[] candidates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (!this.settings.avoidRepeats() || this.settings.repeatCooldown() <= 0 || candidates.length <= 1) {
+            return candidates[random.nextInt(candidates.length)];
+        }
+
+        int fresh = 0;
+        for (int candidate : candidates) {
+            if (!this.recentIds.contains(this.bank.id(candidate))) {
+                fresh++;
+            }
+        }
+
+        if (fresh == 0) {
+            return candidates[random.nextInt(candidates.length)];
+        }
+
+        int target = random.nextInt(fresh);
+        for (int candidate : candidates) {
+            if (!this.recentIds.contains(this.bank.id(candidate)) && target-- == 0) {
+                return candidate;
+            }
+        }
+        return candidates[0];
+    }
+
     private void remember(String questionId) {
         if (!this.settings.avoidRepeats() || this.settings.repeatCooldown() <= 0) {
             return;
@@ -100,4 +176,11 @@ public final class QuestionPool {
 
         this.logger.debug("Question " + questionId + " selected. Recent cache size: " + this.recentIds.size() + ".");
     }
+
+    public record Changes(int added, int changed, int removed) {
+
+        public boolean isEmpty() {
+            return this.added == 0 && this.changed == 0 && this.removed == 0;
+        }
+    }
 }
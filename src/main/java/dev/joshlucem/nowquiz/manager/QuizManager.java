@@ -12,15 +12,24 @@ import org.bukkit.scheduler.BukkitTask;
 
 /**
  * Orchestrates global enable state, scheduling and admin-driven round control.
+ *
+ * <p>Scheduled rounds are prepared a few seconds ahead on an async task: the question is picked
+ * and its chat prefilter, resolved options and question lines in every broadcast language are
+ * built there. The tick that starts the round selects the audience, assigns the id, renders the
+ * two lines that show it, attaches the click callbacks and sends.</p>
  */
 public final class QuizManager {
 
+    private static final long PREPARE_LEAD_TICKS = 100L;
+
     private final NowQuizPlugin plugin;
     private final NowQuizSettings settings;
     private final MessageService messageService;
-    private final QuestionPool questionPool;
+    private volatile QuestionPool questionPool;
     private final RoundManager roundManager;
     private BukkitTask autoTask;
+    private BukkitTask prepareTask;
+    private volatile Prepared prepared;
 
     public QuizManager(
         NowQuizPlugin plugin,
@@ -103,35 +112,87 @@ public final class QuizManager {
         return this.roundManager.finishActiveRound(true);
     }
 
-    public void refreshScheduler() {
-        if (this.autoTask != null) {
-            this.autoTask.cancel();
-            this.autoTask = null;
+    /**
+     * Swaps in a hot-reloaded pool. The active round keeps the question it was started with.
+     */
+    public void replaceQuestionPool(QuestionPool questionPool) {
+        boolean wasEmpty = this.questionPool.size() <= 0;
+        this.questionPool = questionPool;
+        if (wasEmpty != questionPool.size() <= 0) {
+            this.refreshScheduler();
         }
+    }
+
+    public void refreshScheduler() {
+        this.cancelScheduler();
 
         if (!this.settings.enabled() || !this.settings.autoEnabled() || this.questionPool.size() <= 0) {
             return;
         }
 
         long intervalTicks = this.settings.autoIntervalSeconds() * 20L;
+        this.prepareTask = Bukkit.getScheduler().runTaskTimerAsynchronously(
+            this.plugin,
+            this::prepareNextRound,
+            Math.max(1L, intervalTicks - PREPARE_LEAD_TICKS),
+            intervalTicks
+        );
         this.autoTask = Bukkit.getScheduler().runTaskTimer(
             this.plugin,
-            () -> {
-                if (this.roundManager.hasActiveRound()) {
-                    return;
-                }
-                this.startRandomRound(null, null);
-            },
+            this::startScheduledRound,
             intervalTicks,
             intervalTicks
         );
     }
 
     public void shutdown() {
+        this.cancelScheduler();
+        this.roundManager.abort();
+    }
+
+    private void cancelScheduler() {
         if (this.autoTask != null) {
             this.autoTask.cancel();
             this.autoTask = null;
         }
-        this.roundManager.abort();
+        if (this.prepareTask != null) {
+            this.prepareTask.cancel();
+            this.prepareTask = null;
+        }
+        this.prepared = null;
+    }
+
+    /**
+     * Runs on an async task ahead of the scheduled start. A round that could not start yet is kept
+     * for the next slot instead of picking another question.
+     */
+    private void prepareNextRound() {
+        QuestionPool pool = this.questionPool;
+        if (this.prepared != null && this.prepared.pool() == pool) {
+            return;
+        }
+
+        pool.pickRandom(null).ifPresent(question -> this.prepared = new Prepared(pool, this.roundManager.prepare(question)));
+    }
+
+    private void startScheduledRound() {
+        if (this.roundManager.hasActiveRound()) {
+            return;
+        }
+
+        Prepared next = this.prepared;
+        if (next == null || next.pool() != this.questionPool) {
+            // Preparation has not finished, or a hot reload replaced the pool it picked from.
+            this.prepared = null;
+            this.startRandomRound(null, null);
+            return;
+        }
+
+        if (this.roundManager.startRound(next.round(), null)) {
+            this.prepared = null;
+        }
+    }
+
+    private record Prepared(QuestionPool pool, RoundManager.PreparedRound round) {
     }
 }
@@ -7,7 +7,6 @@ import dev.joshlucem.nowquiz.core.PluginLogger;
 import dev.joshlucem.nowquiz.quiz.Question;
 import dev.joshlucem.nowquiz.quiz.RewardDefinition;
 import dev.joshlucem.nowquiz.quiz.RewardItem;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -16,11 +15,9 @@ import java.util.Map;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import org.bukkit.Bukkit;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.plugin.RegisteredServiceProvider;
 
 /**
  * Applies configured rewards on the main thread.
@@ -32,8 +29,7 @@ public final class RewardManager {
     private final PluginLogger logger;
     private final Map<String, RewardDefinition> profiles;
     private final MiniMessage miniMessage;
-    private final boolean hookVault;
-    private Object economyProvider;
+    private final EconomyBridge economy;
     private boolean warnedAboutVault;
 
     public RewardManager(NowQuizPlugin plugin, Map<String, RewardDefinition> profiles, NowQuizSettings settings, PluginLogger logger) {
@@ -42,11 +38,14 @@ public final class RewardManager {
         this.logger = logger;
         this.profiles = new LinkedHashMap<>(profiles);
         this.miniMessage = MiniMessage.miniMessage();
-        this.hookVault = settings.hookVault();
-        this.economyProvider = this.resolveEconomyProvider();
+        this.economy = new EconomyBridge(logger, settings.hookVault());
         this.warnedAboutVault = false;
     }
 
+    public EconomyBridge economy() {
+        return this.economy;
+    }
+
     public RewardDefinition resolveRewards(Question question) {
         RewardDefinition base = this.profiles.getOrDefault(
             question.rewardProfile().toLowerCase(Locale.ROOT),
@@ -128,7 +127,7 @@ public final class RewardManager {
     }
 
     private boolean depositMoney(Player player, double amount) {
-        if (this.economyProvider == null) {
+        if (!this.economy.available()) {
             if (!this.warnedAboutVault) {
                 this.logger.warn("Vault economy rewards are configured, but no Vault economy provider is available. Money rewards will be skipped.");
                 this.warnedAboutVault = true;
@@ -136,37 +135,7 @@ public final class RewardManager {
             return false;
         }
 
-        try {
-            Method method = this.economyProvider.getClass().getMethod("depositPlayer", OfflinePlayer.class, double.class);
-            method.invoke(this.economyProvider, player, amount);
-            return true;
-        } catch (ReflectiveOperationException exception) {
-            this.logger.warn("Failed to deposit a Vault reward for " + player.getName() + ".", exception);
-            return false;
-        }
-    }
-
-    private Object resolveEconomyProvider() {
-        if (!this.hookVault) {
-            this.logger.debug("Vault hook disabled in config.");
-            return null;
-        }
-
-        try {
-            Class<?> economyClass = Class.forName("net.milkbowl.vault.economy.Economy");
-            @SuppressWarnings({"rawtypes", "unchecked"})
-            RegisteredServiceProvider<?> registration = Bukkit.getServicesManager().getRegistration((Class) economyClass);
-            if (registration == null) {
-                this.logger.debug("Vault was not found or no economy provider is registered.");
-                return null;
-            }
-
-            this.logger.debug("Vault economy provider detected.");
-            return registration.getProvider();
-        } catch (ClassNotFoundException exception) {
-            this.logger.debug("Vault classes are not present.");
-            return null;
-        }
+        return this.economy.deposit(player, amount);
     }
 
     private static String applyPlaceholders(String raw, Map<String, String> placeholders) {
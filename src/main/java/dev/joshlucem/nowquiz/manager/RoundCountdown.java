@@ -0,0 +1,129 @@
+package dev.joshlucem.nowquiz.manager;
+
+import dev.joshlucem.nowquiz.core.MessageService;
+import dev.joshlucem.nowquiz.core.NowQuizPlugin;
+import dev.joshlucem.nowquiz.quiz.QuizRound;
+import dev.joshlucem.nowquiz.util.CountdownDisplay;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Shows the time left in a round as a boss bar or action bar.
+ *
+ * <p>A single repeating task derives the remaining time from {@link QuizRound#closesAtMillis()}
+ * every few ticks. Boss bars are shared: one per language among the audience, shown once and
+ * then only mutated, and their title is re-rendered only when the displayed second changes.
+ * Action bars are rendered once per language per update.</p>
+ */
+public final class RoundCountdown {
+
+    private final MessageService messageService;
+    private final CountdownDisplay display;
+    private final QuizRound round;
+    private final List<Player> audience;
+    private final long durationMillis;
+    private final Map<MessageService.Bundle, BossBar> bars;
+    private long shownSeconds;
+    private BukkitTask task;
+
+    private RoundCountdown(MessageService messageService, CountdownDisplay display, QuizRound round, List<Player> audience) {
+        this.messageService = messageService;
+        this.display = display;
+        this.round = round;
+        this.audience = audience;
+        this.durationMillis = Math.max(1L, round.closesAtMillis() - round.startedAtMillis());
+        this.bars = new HashMap<>(4);
+        this.shownSeconds = -1L;
+    }
+
+    /**
+     * Starts a countdown for the round, or returns {@code null} when countdowns are disabled.
+     */
+    public static RoundCountdown start(
+        NowQuizPlugin plugin,
+        MessageService messageService,
+        CountdownDisplay display,
+        int intervalTicks,
+        QuizRound round,
+        List<Player> audience
+    ) {
+        if (display == CountdownDisplay.NONE) {
+            return null;
+        }
+
+        RoundCountdown countdown = new RoundCountdown(messageService, display, round, audience);
+        countdown.update();
+        countdown.task = Bukkit.getScheduler().runTaskTimer(plugin, countdown::update, intervalTicks, intervalTicks);
+        return countdown;
+    }
+
+    /**
+     * Cancels the updates and hides the boss bars from everyone they were shown to.
+     */
+    public void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+
+        if (this.bars.isEmpty()) {
+            return;
+        }
+
+        // A player may have switched language mid-round, so every bar is hidden from everyone.
+        for (Player player : this.audience) {
+            for (BossBar bar : this.bars.values()) {
+                player.hideBossBar(bar);
+            }
+        }
+        this.bars.clear();
+    }
+
+    private void update() {
+        long remainingMillis = Math.max(0L, this.round.closesAtMillis() - System.currentTimeMillis());
+        long seconds = (remainingMillis + 999L) / 1000L;
+        boolean secondChanged = seconds != this.shownSeconds;
+        this.shownSeconds = seconds;
+
+        if (this.display == CountdownDisplay.ACTIONBAR) {
+            Map<MessageService.Bundle, Component> rendered = new HashMap<>(4);
+            for (Player player : this.audience) {
+                if (player.isOnline()) {
+                    player.sendActionBar(rendered.computeIfAbsent(this.messageService.bundle(player), this::title));
+                }
+            }
+            return;
+        }
+
+        float progress = Math.clamp(remainingMillis / (float) this.durationMillis, BossBar.MIN_PROGRESS, BossBar.MAX_PROGRESS);
+        if (this.bars.isEmpty()) {
+            for (Player player : this.audience) {
+                MessageService.Bundle bundle = this.messageService.bundle(player);
+                BossBar bar = this.bars.computeIfAbsent(bundle, ignored ->
+                    BossBar.bossBar(this.title(bundle), progress, BossBar.Color.YELLOW, BossBar.Overlay.PROGRESS));
+                player.showBossBar(bar);
+            }
+            return;
+        }
+
+        for (Map.Entry<MessageService.Bundle, BossBar> entry : this.bars.entrySet()) {
+            entry.getValue().progress(progress);
+            if (secondChanged) {
+                entry.getValue().name(this.title(entry.getKey()));
+            }
+        }
+    }
+
+    private Component title(MessageService.Bundle bundle) {
+        return bundle.render("round.countdown", Map.of(
+            "round_id", Long.toString(this.round.roundId()),
+            "seconds", Long.toString(this.shownSeconds)
+        ));
+    }
+}
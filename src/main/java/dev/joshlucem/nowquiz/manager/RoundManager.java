@@ -5,24 +5,28 @@ import dev.joshlucem.nowquiz.core.NowQuizPlugin;
 import dev.joshlucem.nowquiz.core.NowQuizSettings;
 import dev.joshlucem.nowquiz.core.PluginLogger;
 import dev.joshlucem.nowquiz.quiz.AnswerOption;
+import dev.joshlucem.nowquiz.quiz.ChatPrefilter;
 import dev.joshlucem.nowquiz.quiz.PlayerAnswer;
 import dev.joshlucem.nowquiz.quiz.PlayerStats;
 import dev.joshlucem.nowquiz.quiz.Question;
 import dev.joshlucem.nowquiz.quiz.QuestionType;
 import dev.joshlucem.nowquiz.quiz.QuizRound;
+import dev.joshlucem.nowquiz.quiz.ResolvedAnswer;
+import dev.joshlucem.nowquiz.quiz.RoundResult;
 import dev.joshlucem.nowquiz.util.BroadcastScope;
+import dev.joshlucem.nowquiz.util.ChunkedBroadcaster;
 import dev.joshlucem.nowquiz.util.TextUtil;
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.event.ClickCallback;
 import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.minimessage.MiniMessage;
@@ -36,16 +40,24 @@ import org.bukkit.scheduler.BukkitTask;
  */
 public final class RoundManager {
 
+    private static final long CALLBACK_GRACE_SECONDS = 30L;
+
     private final NowQuizPlugin plugin;
     private final NowQuizSettings settings;
     private final MessageService messageService;
     private final RewardManager rewardManager;
     private final StatsManager statsManager;
     private final PluginLogger logger;
+    private final AudienceIndex audienceIndex;
+    private final ChunkedBroadcaster broadcaster;
     private final AtomicLong roundSequence;
     private final MiniMessage miniMessage;
     private volatile QuizRound activeRound;
+    private AudienceIndex.Audience activeAudience;
+    private RoundCountdown countdown;
+    private ChunkedBroadcaster.Delivery questionDelivery;
     private BukkitTask timeoutTask;
+    private BukkitTask claimTask;
 
     public RoundManager(
         NowQuizPlugin plugin,
@@ -53,7 +65,8 @@ public final class RoundManager {
         MessageService messageService,
         RewardManager rewardManager,
         StatsManager statsManager,
-        PluginLogger logger
+        PluginLogger logger,
+        AudienceIndex audienceIndex
     ) {
         this.plugin = plugin;
         this.settings = settings;
@@ -61,6 +74,12 @@ public final class RoundManager {
         this.rewardManager = rewardManager;
         this.statsManager = statsManager;
         this.logger = logger;
+        this.audienceIndex = audienceIndex;
+        this.broadcaster = new ChunkedBroadcaster(
+            plugin,
+            settings.broadcastPerTick(),
+            TimeUnit.MICROSECONDS.toNanos(settings.broadcastTickBudgetMicros())
+        );
         this.roundSequence = new AtomicLong(0L);
         this.miniMessage = MiniMessage.miniMessage();
     }
@@ -77,37 +96,151 @@ public final class RoundManager {
      * Starts a new round if none is active.
      */
     public boolean startRound(Question question, Player anchorPlayer) {
+        return this.activeRound == null && this.startRound(this.prepare(question), anchorPlayer);
+    }
+
+    /**
+     * Does the per-question work of a round start ahead of time: the chat prefilter, the resolved
+     * option answers, and in every broadcast language the prompt, footer, option lines and hover
+     * text. Safe to call off the main thread; templates and bundles are read-only apart from their
+     * concurrent caches.
+     *
+     * <p>Only the round id and the click callbacks are left for the start, so a prepared round
+     * that waits for a later slot neither skips an id nor carries expired clicks.</p>
+     */
+    public PreparedRound prepare(Question question) {
+        Map<MessageService.Bundle, QuestionLines> lines = new HashMap<>();
+        for (MessageService.Bundle bundle : this.messageService.broadcastBundles()) {
+            lines.put(bundle, this.renderQuestionLines(bundle, question));
+        }
+
+        Map<String, ResolvedAnswer> answers = new HashMap<>();
+        for (AnswerOption option : question.options().values()) {
+            answers.put(option.key(), question.resolve(option.key()));
+        }
+        return new PreparedRound(
+            question,
+            ChatPrefilter.compile(question, this.settings.chatPrefix()),
+            Map.copyOf(answers),
+            Map.copyOf(lines)
+        );
+    }
+
+    /**
+     * Whether the options of {@code question} are sent as click callbacks, in which case
+     * {@code /nowquiz answer} is not accepted for its rounds.
+     */
+    public boolean usesClickCallbacks(Question question) {
+        return this.settings.allowClickAnswers() && this.settings.clickCallbacks() && question.type() != QuestionType.OPEN;
+    }
+
+    /**
+     * Click actions for each option, shared by every language of the question block.
+     *
+     * <p>Callbacks hand the pre-resolved option straight to {@link AnswerService} without going
+     * through the command map. They expire shortly after the round would have timed out, and a
+     * click on a finished round is rejected like any stale answer. With callbacks off the options
+     * run {@code /nowquiz answer} instead.</p>
+     */
+    private Map<String, ClickEvent> optionClicks(long roundId, PreparedRound prepared) {
+        Question question = prepared.question();
+        if (!this.settings.allowClickAnswers() || question.type() == QuestionType.OPEN) {
+            return Map.of();
+        }
+
+        ClickCallback.Options options = ClickCallback.Options.builder()
+            .uses(ClickCallback.UNLIMITED_USES)
+            .lifetime(Duration.ofSeconds(this.settings.roundTimeLimitSeconds() + CALLBACK_GRACE_SECONDS))
+            .build();
+        Map<String, ClickEvent> clicks = new HashMap<>();
+        for (AnswerOption option : question.options().values()) {
+            if (!this.settings.clickCallbacks()) {
+                clicks.put(option.key(), ClickEvent.runCommand("/nowquiz answer " + roundId + " " + option.key()));
+                continue;
+            }
+
+            ResolvedAnswer answer = prepared.answers().get(option.key());
+            clicks.put(option.key(), ClickEvent.callback(audience -> {
+                if (audience instanceof Player player) {
+                    this.plugin.getAnswerService().submitClickAnswer(player, roundId, answer);
+                }
+            }, options));
+        }
+        return Map.copyOf(clicks);
+    }
+
+    /**
+     * Starts a prepared round if none is active. Only the audience snapshot, the round id, the
+     * lines that show it, the click callbacks and the sends happen here.
+     */
+    public boolean startRound(PreparedRound prepared, Player anchorPlayer) {
         if (this.activeRound != null) {
             return false;
         }
 
-        AudienceSelection selection = this.selectAudience(anchorPlayer);
-        if (selection.recipients().isEmpty()) {
+        String anchorWorldName = this.resolveAnchorWorld(anchorPlayer);
+        AudienceIndex.Audience audience = this.audienceIndex.select(anchorWorldName);
+        if (audience.players().isEmpty()) {
             this.logger.debug("Skipped round start because no eligible recipients were online.");
             return false;
         }
 
+        long roundId = this.roundSequence.incrementAndGet();
         long startedAt = System.currentTimeMillis();
         QuizRound round = new QuizRound(
-            this.roundSequence.incrementAndGet(),
-            question,
+            roundId,
+            prepared.question(),
             startedAt,
             startedAt + (this.settings.roundTimeLimitSeconds() * 1000L),
             this.settings.allowMultipleWinners(),
-            selection.playerIds(),
-            selection.anchorWorldName()
+            this.settings.closeOnFirstCorrect(),
+            this.settings.broadcastPerTick() > 0 || this.settings.broadcastTickBudgetMicros() > 0L,
+            audience.playerIds(),
+            anchorWorldName,
+            prepared.chatPrefilter()
         );
         this.activeRound = round;
-        this.broadcastQuestion(round, selection.recipients());
+        this.activeAudience = audience;
+        this.broadcastQuestion(round, prepared, this.optionClicks(roundId, prepared), audience.players());
+        this.countdown = RoundCountdown.start(
+            this.plugin,
+            this.messageService,
+            this.settings.countdownDisplay(),
+            this.settings.countdownIntervalTicks(),
+            round,
+            audience.players()
+        );
 
         this.timeoutTask = Bukkit.getScheduler().runTaskLater(
             this.plugin,
             () -> this.finishActiveRound(false),
             this.settings.roundTimeLimitSeconds() * 20L
         );
+        if (round.ranksByResponseTime() && round.closesOnFirstCorrect()) {
+            this.claimTask = Bukkit.getScheduler().runTaskTimer(this.plugin, () -> this.settleClaim(round), 1L, 1L);
+        }
         return true;
     }
 
+    /**
+     * Ends a round ranked by response time once its fastest correct answer can no longer be beaten.
+     *
+     * <p>Answers that arrive after that point close the round themselves through
+     * {@link #finishClaimedRound(QuizRound)}; this covers the round going quiet before then.</p>
+     */
+    private void settleClaim(QuizRound round) {
+        if (this.activeRound != round) {
+            return;
+        }
+
+        if (this.questionDelivery == null || this.questionDelivery.isDone()) {
+            round.markDeliveryComplete();
+        }
+        if (round.confirmClaim(System.currentTimeMillis()) != null) {
+            this.finishActiveRound(false);
+        }
+    }
+
     /**
      * Finishes the active round, optionally marking it as a manual stop.
      */
@@ -118,25 +251,16 @@ public final class RoundManager {
         }
 
         this.activeRound = null;
-        if (this.timeoutTask != null) {
-            this.timeoutTask.cancel();
-            this.timeoutTask = null;
-        }
-
-        round.close();
-        Collection<Player> recipients = this.resolveLiveRecipients(round);
-
-        if (manualStop) {
-            this.broadcast(recipients, this.messageService.render("round.stopped"));
-        }
-
-        List<PlayerAnswer> winners = this.pickWinners(round);
-        Set<UUID> winnerIds = winners.stream()
-            .map(PlayerAnswer::playerId)
-            .collect(Collectors.toCollection(LinkedHashSet::new));
-
-        Map<UUID, PlayerStats> updatedStats = this.statsManager.recordRound(round, winnerIds);
-        for (PlayerAnswer winner : winners) {
+        this.cancelTimers();
+        this.stopCountdown();
+        this.cancelQuestionDelivery();
+        RoundResult result = round.close();
+        // Players who left since the round started are skipped by the broadcaster.
+        List<Player> recipients = this.activeAudience.players();
+        this.activeAudience = null;
+
+        Map<UUID, PlayerStats> updatedStats = this.statsManager.recordRound(result);
+        for (PlayerAnswer winner : result.winners()) {
             Player player = Bukkit.getPlayer(winner.playerId());
             if (player == null || !player.isOnline()) {
                 this.logger.debug("Winner " + winner.playerName() + " left before rewards were applied.");
@@ -145,79 +269,185 @@ public final class RoundManager {
 
             PlayerStats playerStats = updatedStats.get(winner.playerId());
             long streak = playerStats == null ? 0L : playerStats.currentStreak();
-            this.rewardManager.grant(player, round.question(), streak);
+            this.rewardManager.grant(player, result.question(), streak);
         }
 
-        this.broadcastRoundSummary(round, winners, recipients);
+        this.broadcastRoundSummary(result, manualStop, recipients);
         return true;
     }
 
+    /**
+     * Finishes a round that closed itself when its winner was claimed. Safe to call from any thread.
+     *
+     * <p>The timeout is cancelled and rewards are granted on the next tick instead of when the
+     * time limit runs out.</p>
+     */
+    public void finishClaimedRound(QuizRound round) {
+        Bukkit.getScheduler().runTask(this.plugin, () -> {
+            if (this.activeRound == round) {
+                this.finishActiveRound(false);
+            }
+        });
+    }
+
     public void abort() {
+        this.cancelTimers();
+        this.stopCountdown();
+        this.cancelQuestionDelivery();
+
+        if (this.activeRound != null) {
+            this.activeRound.close();
+            this.activeRound = null;
+            this.activeAudience = null;
+        }
+    }
+
+    /**
+     * Stops the finished round's question from reaching anyone else; summaries already queued keep going.
+     */
+    private void cancelQuestionDelivery() {
+        if (this.questionDelivery != null) {
+            this.questionDelivery.cancel();
+            this.questionDelivery = null;
+        }
+    }
+
+    private void cancelTimers() {
         if (this.timeoutTask != null) {
             this.timeoutTask.cancel();
             this.timeoutTask = null;
         }
+        if (this.claimTask != null) {
+            this.claimTask.cancel();
+            this.claimTask = null;
+        }
+    }
 
-        if (this.activeRound != null) {
-            this.activeRound.close();
-            this.activeRound = null;
+    private void stopCountdown() {
+        if (this.countdown != null) {
+            this.countdown.stop();
+            this.countdown = null;
         }
     }
 
-    private void broadcastQuestion(QuizRound round, Collection<Player> recipients) {
-        this.broadcast(recipients, this.messageService.render("question.header", Map.of("round_id", Long.toString(round.roundId()))));
-        this.broadcast(recipients, this.messageService.render("question.prompt", Map.of("question", round.question().prompt())));
-        this.broadcast(recipients, this.messageService.render("question.footer", Map.of("seconds", Integer.toString(this.settings.roundTimeLimitSeconds()))));
+    /**
+     * Sends the question block to each recipient as a single message, one per language, recording
+     * when each player actually received it.
+     */
+    private void broadcastQuestion(
+        QuizRound round,
+        PreparedRound prepared,
+        Map<String, ClickEvent> optionClicks,
+        List<Player> recipients
+    ) {
+        this.questionDelivery = this.broadcaster.send(
+            recipients,
+            this.messageService.localized(messages -> {
+                QuestionLines lines = prepared.lines().get(messages);
+                return this.assembleQuestion(
+                    messages,
+                    round,
+                    lines == null ? this.renderQuestionLines(messages, round.question()) : lines,
+                    optionClicks
+                );
+            }),
+            player -> round.markDelivered(player.getUniqueId(), System.currentTimeMillis())
+        );
+    }
+
+    /**
+     * Adds the round id lines and the option clicks to the pre-rendered lines of one language.
+     */
+    private Component assembleQuestion(
+        MessageService.Bundle messages,
+        QuizRound round,
+        QuestionLines prepared,
+        Map<String, ClickEvent> optionClicks
+    ) {
+        String roundId = Long.toString(round.roundId());
+        List<Component> lines = new ArrayList<>(3 + prepared.options().size());
+        lines.add(messages.render("question.header", Map.of("round_id", roundId)));
+        lines.add(prepared.prompt());
+        lines.add(prepared.footer());
 
         if (round.question().type() == QuestionType.OPEN) {
-            this.broadcast(recipients, this.messageService.render(
+            lines.add(messages.render(
                 "question.no-click-open",
                 Map.of(
-                    "round_id", Long.toString(round.roundId()),
+                    "round_id", roundId,
                     "chat_prefix", this.settings.chatPrefix()
                 )
             ));
-            return;
+            return Component.join(JoinConfiguration.newlines(), lines);
         }
 
-        String layout = this.messageService.string("options.layout", "LIST").trim().toUpperCase();
-        if ("INLINE".equals(layout)) {
-            Component inline = Component.empty();
-            boolean first = true;
-            Component separator = this.miniMessage.deserialize(this.messageService.string("options.inline-separator", " | "));
-            for (AnswerOption option : round.question().options().values()) {
-                if (!first) {
-                    inline = inline.append(separator);
-                }
-                inline = inline.append(this.buildOptionComponent(round, option, false));
-                first = false;
-            }
-            this.broadcast(recipients, inline);
-            return;
+        List<Component> options = new ArrayList<>(prepared.options().size());
+        int index = 0;
+        for (AnswerOption option : round.question().options().values()) {
+            Component base = prepared.options().get(index++);
+            ClickEvent click = optionClicks.get(option.key());
+            options.add(click == null ? base : base.hoverEvent(prepared.hover()).clickEvent(click));
         }
 
-        for (AnswerOption option : round.question().options().values()) {
-            this.broadcast(recipients, this.buildOptionComponent(round, option, true));
+        if (prepared.inlineSeparator() != null) {
+            lines.add(Component.join(JoinConfiguration.separator(prepared.inlineSeparator()), options));
+        } else {
+            lines.addAll(options);
         }
+        return Component.join(JoinConfiguration.newlines(), lines);
     }
 
-    private Component buildOptionComponent(QuizRound round, AnswerOption option, boolean listLayout) {
-        String messagePath = listLayout ? "options.list-format" : "options.inline-format";
-        Component base = this.messageService.render(messagePath, Map.of("option", option.key(), "text", option.text()));
-        if (!this.settings.allowClickAnswers()) {
-            return base;
+    /**
+     * Renders everything in the question block that does not depend on the round id or the clicks.
+     */
+    private QuestionLines renderQuestionLines(MessageService.Bundle messages, Question question) {
+        Component prompt = messages.render("question.prompt", Map.of("question", question.prompt()));
+        Component footer = messages.render("question.footer", Map.of("seconds", Integer.toString(this.settings.roundTimeLimitSeconds())));
+        if (question.type() == QuestionType.OPEN) {
+            return new QuestionLines(prompt, footer, List.of(), null, null);
         }
 
-        return base.hoverEvent(HoverEvent.showText(this.messageService.render("options.hover")))
-            .clickEvent(ClickEvent.runCommand("/nowquiz answer " + round.roundId() + " " + option.key()));
+        boolean inline = "INLINE".equals(messages.string("options.layout", "LIST").trim().toUpperCase());
+        String messagePath = inline ? "options.inline-format" : "options.list-format";
+        List<Component> options = new ArrayList<>(question.options().size());
+        for (AnswerOption option : question.options().values()) {
+            options.add(messages.render(messagePath, Map.of("option", option.key(), "text", option.text())));
+        }
+
+        return new QuestionLines(
+            prompt,
+            footer,
+            List.copyOf(options),
+            inline ? this.miniMessage.deserialize(messages.string("options.inline-separator", " | ")) : null,
+            HoverEvent.showText(messages.render("options.hover"))
+        );
     }
 
-    private void broadcastRoundSummary(QuizRound round, List<PlayerAnswer> winners, Collection<Player> recipients) {
+    /**
+     * Sends the stop notice, winners and correct answer as one message per recipient, rendered once per language.
+     */
+    private void broadcastRoundSummary(RoundResult result, boolean manualStop, List<Player> recipients) {
+        this.broadcaster.send(
+            recipients,
+            this.messageService.localized(messages ->
+                Component.join(JoinConfiguration.newlines(), this.renderSummary(messages, result, manualStop))),
+            ignored -> {
+            }
+        );
+    }
+
+    private List<Component> renderSummary(MessageService.Bundle messages, RoundResult result, boolean manualStop) {
+        List<Component> lines = new ArrayList<>(3);
+        if (manualStop) {
+            lines.add(messages.render("round.stopped"));
+        }
+
+        List<PlayerAnswer> winners = result.winners();
         if (winners.isEmpty()) {
-            this.broadcast(recipients, this.messageService.render("round.no-winner"));
+            lines.add(messages.render("round.no-winner"));
         } else if (winners.size() == 1) {
             PlayerAnswer winner = winners.get(0);
-            this.broadcast(recipients, this.messageService.render(
+            lines.add(messages.render(
                 "round.winner-single",
                 Map.of(
                     "player", winner.playerName(),
@@ -226,69 +456,11 @@ public final class RoundManager {
             ));
         } else {
             String names = TextUtil.joinNames(winners.stream().map(PlayerAnswer::playerName).toList());
-            this.broadcast(recipients, this.messageService.render("round.winner-multi", Map.of("players", names)));
+            lines.add(messages.render("round.winner-multi", Map.of("players", names)));
         }
 
-        this.broadcast(recipients, this.messageService.render("round.correct-answer", Map.of("answer", round.question().correctAnswerDisplay())));
-    }
-
-    private List<PlayerAnswer> pickWinners(QuizRound round) {
-        List<PlayerAnswer> correctAnswers = new ArrayList<>();
-        for (PlayerAnswer answer : round.answers().values()) {
-            if (answer.correct() && answer.rewardEligible()) {
-                correctAnswers.add(answer);
-            }
-        }
-
-        if (correctAnswers.isEmpty()) {
-            return List.of();
-        }
-
-        if (round.allowMultipleWinners()) {
-            return List.copyOf(correctAnswers);
-        }
-
-        return List.of(correctAnswers.getFirst());
-    }
-
-    private AudienceSelection selectAudience(Player anchorPlayer) {
-        String anchorWorldName = this.resolveAnchorWorld(anchorPlayer);
-        Set<UUID> playerIds = new LinkedHashSet<>();
-        List<Player> recipients = new ArrayList<>();
-
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!player.hasPermission("nowquiz.use")) {
-                continue;
-            }
-
-            if (this.settings.broadcastScope() == BroadcastScope.PERMISSION
-                && !this.settings.broadcastPermission().isBlank()
-                && !player.hasPermission(this.settings.broadcastPermission())) {
-                continue;
-            }
-
-            if (this.settings.broadcastScope() == BroadcastScope.WORLD
-                && !anchorWorldName.isBlank()
-                && !player.getWorld().getName().equalsIgnoreCase(anchorWorldName)) {
-                continue;
-            }
-
-            playerIds.add(player.getUniqueId());
-            recipients.add(player);
-        }
-
-        return new AudienceSelection(playerIds, recipients, anchorWorldName);
-    }
-
-    private Collection<Player> resolveLiveRecipients(QuizRound round) {
-        List<Player> recipients = new ArrayList<>();
-        for (UUID playerId : round.eligiblePlayers()) {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                recipients.add(player);
-            }
-        }
-        return recipients;
+        lines.add(messages.render("round.correct-answer", Map.of("answer", result.question().correctAnswerDisplay())));
+        return lines;
     }
 
     private String resolveAnchorWorld(Player anchorPlayer) {
@@ -314,12 +486,27 @@ public final class RoundManager {
         return "";
     }
 
-    private void broadcast(Collection<Player> recipients, Component component) {
-        for (Player recipient : recipients) {
-            recipient.sendMessage(component);
-        }
+    /**
+     * A question whose chat prefilter, option answers and id-independent lines are built before the round starts.
+     */
+    public record PreparedRound(
+        Question question,
+        ChatPrefilter chatPrefilter,
+        Map<String, ResolvedAnswer> answers,
+        Map<MessageService.Bundle, QuestionLines> lines
+    ) {
     }
 
-    private record AudienceSelection(Set<UUID> playerIds, List<Player> recipients, String anchorWorldName) {
+    /**
+     * The question block of one language without the round id lines; {@code inlineSeparator} is
+     * {@code null} for the list layout, and options and hover are empty for open questions.
+     */
+    public record QuestionLines(
+        Component prompt,
+        Component footer,
+        List<Component> options,
+        Component inlineSeparator,
+        HoverEvent<Component> hover
+    ) {
     }
 }
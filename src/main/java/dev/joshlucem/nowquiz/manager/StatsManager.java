@@ -4,11 +4,10 @@ import dev.joshlucem.nowquiz.core.PluginLogger;
 import dev.joshlucem.nowquiz.quiz.LeaderboardEntry;
 import dev.joshlucem.nowquiz.quiz.PlayerAnswer;
 import dev.joshlucem.nowquiz.quiz.PlayerStats;
-import dev.joshlucem.nowquiz.quiz.QuizRound;
+import dev.joshlucem.nowquiz.quiz.RoundResult;
 import dev.joshlucem.nowquiz.storage.SQLiteStorage;
 import dev.joshlucem.nowquiz.util.LeaderboardMetric;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -35,16 +34,16 @@ public final class StatsManager {
         this.dirty = ConcurrentHashMap.newKeySet();
     }
 
-    public Map<UUID, PlayerStats> recordRound(QuizRound round, Collection<UUID> winnerIds) {
-        Map<UUID, PlayerAnswer> answers = round.answers();
+    public Map<UUID, PlayerStats> recordRound(RoundResult result) {
+        List<PlayerAnswer> answers = result.answers();
         if (answers.isEmpty()) {
             return Map.of();
         }
 
         Map<UUID, PlayerStats> updated = new ConcurrentHashMap<>();
-        for (PlayerAnswer answer : answers.values()) {
+        for (PlayerAnswer answer : answers) {
             PlayerStats stats = this.cache.computeIfAbsent(answer.playerId(), ignored -> new PlayerStats(answer.playerId(), answer.playerName()));
-            boolean won = winnerIds.contains(answer.playerId());
+            boolean won = result.winnerIds().contains(answer.playerId());
             stats.recordResult(answer.playerName(), won, answer.responseTimeMillis());
             this.dirty.add(answer.playerId());
             updated.put(answer.playerId(), stats.copy());
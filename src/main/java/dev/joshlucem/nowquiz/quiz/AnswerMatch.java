@@ -0,0 +1,27 @@
+package dev.joshlucem.nowquiz.quiz;
+
+/**
+ * Outcome of running an answer through a question's matcher chain.
+ *
+ * @param kind which matcher recognised the answer
+ * @param optionKey the matched option for choice questions, otherwise {@code null}
+ * @param correct whether the answer is correct
+ */
+public record AnswerMatch(Kind kind, String optionKey, boolean correct) {
+
+    static final AnswerMatch NONE = new AnswerMatch(Kind.NONE, null, false);
+
+    public boolean matched() {
+        return this.kind != Kind.NONE;
+    }
+
+    public enum Kind {
+        OPTION_KEY,
+        OPTION_TEXT,
+        ACCEPTED,
+        NUMERIC,
+        PATTERN,
+        TYPO,
+        NONE
+    }
+}
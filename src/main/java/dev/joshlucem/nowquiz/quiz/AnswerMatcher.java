@@ -0,0 +1,18 @@
+package dev.joshlucem.nowquiz.quiz;
+
+/**
+ * One step of a question's answer matching chain.
+ *
+ * <p>Matchers are compiled once per question and run in order on the normalized input; the
+ * first one that recognises the input decides the result.</p>
+ */
+@FunctionalInterface
+public interface AnswerMatcher {
+
+    /**
+     * @param normalizedInput input already passed through {@code TextUtil.normalizeAnswer}
+     * @param fallbackTolerance global typo tolerance for questions that do not set their own
+     * @return the match, or {@code null} when this matcher does not recognise the input
+     */
+    AnswerMatch match(String normalizedInput, TypoTolerance fallbackTolerance);
+}
@@ -0,0 +1,222 @@
+package dev.joshlucem.nowquiz.quiz;
+
+import dev.joshlucem.nowquiz.util.TextUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Builds the matcher chain for a question.
+ *
+ * <p>Choice questions match option keys, then option texts, then numeric option texts. Open
+ * questions match accepted answers, then numbers, then patterns, then typos. Numeric answers
+ * are left out of typo matching, so {@code numeric-tolerance} alone decides how close a number
+ * must be. Every result a matcher can return is created here; only the typo matcher allocates
+ * while matching, for its edit-distance rows.</p>
+ */
+final class AnswerMatchers {
+
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+    };
+
+    private AnswerMatchers() {
+    }
+
+    static List<AnswerMatcher> compile(
+        QuestionType type,
+        Collection<AnswerOption> options,
+        String correctKeyOrAnswer,
+        Collection<String> acceptedAnswers,
+        AnswerRules rules
+    ) {
+        List<AnswerMatcher> matchers = new ArrayList<>();
+        if (type == QuestionType.OPEN) {
+            matchers.add(accepted(acceptedAnswers));
+            addIfPresent(matchers, numeric(acceptedAnswers, rules.numericTolerance()));
+            addIfPresent(matchers, patterns(rules.patterns()));
+            addIfPresent(matchers, typos(acceptedAnswers, rules.typoTolerance()));
+            return List.copyOf(matchers);
+        }
+
+        Map<String, AnswerMatch> keys = new HashMap<>();
+        Map<String, AnswerMatch> texts = new HashMap<>();
+        List<String> numericTexts = new ArrayList<>();
+        List<AnswerMatch> numericMatches = new ArrayList<>();
+        for (AnswerOption option : options) {
+            boolean correct = option.key().equalsIgnoreCase(correctKeyOrAnswer);
+            String text = TextUtil.normalizeAnswer(option.text());
+            keys.put(TextUtil.normalizeAnswer(option.key()), new AnswerMatch(AnswerMatch.Kind.OPTION_KEY, option.key(), correct));
+            texts.putIfAbsent(text, new AnswerMatch(AnswerMatch.Kind.OPTION_TEXT, option.key(), correct));
+            numericTexts.add(text);
+            numericMatches.add(new AnswerMatch(AnswerMatch.Kind.NUMERIC, option.key(), correct));
+        }
+
+        matchers.add((input, fallback) -> keys.get(input));
+        matchers.add((input, fallback) -> texts.get(input));
+        addIfPresent(matchers, numeric(numericTexts, numericMatches, rules.numericTolerance()));
+        return List.copyOf(matchers);
+    }
+
+    private static AnswerMatcher accepted(Collection<String> acceptedAnswers) {
+        AnswerMatch match = new AnswerMatch(AnswerMatch.Kind.ACCEPTED, null, true);
+        return (input, fallback) -> acceptedAnswers.contains(input) ? match : null;
+    }
+
+    private static AnswerMatcher numeric(Collection<String> acceptedAnswers, double tolerance) {
+        AnswerMatch match = new AnswerMatch(AnswerMatch.Kind.NUMERIC, null, true);
+        return numeric(acceptedAnswers, Collections.nCopies(acceptedAnswers.size(), match), tolerance);
+    }
+
+    /**
+     * Matches numeric input against the targets that are numbers themselves, so {@code 20.0} finds {@code 20}.
+     *
+     * <p>The closest target within {@code tolerance} wins. When two targets with different
+     * results are equally close, the input is ambiguous and nothing matches.</p>
+     */
+    private static AnswerMatcher numeric(Collection<String> targets, List<AnswerMatch> targetMatches, double tolerance) {
+        List<Double> values = new ArrayList<>();
+        List<AnswerMatch> matches = new ArrayList<>();
+        int index = 0;
+        for (String target : targets) {
+            double value = parseNumber(target);
+            if (!Double.isNaN(value)) {
+                values.add(value);
+                matches.add(targetMatches.get(index));
+            }
+            index++;
+        }
+
+        if (values.isEmpty()) {
+            return null;
+        }
+
+        double[] numbers = values.stream().mapToDouble(Double::doubleValue).toArray();
+        AnswerMatch[] results = matches.toArray(AnswerMatch[]::new);
+        return (input, fallback) -> {
+            double value = parseNumber(input);
+            if (Double.isNaN(value)) {
+                return null;
+            }
+
+            AnswerMatch best = null;
+            double bestDelta = Double.POSITIVE_INFINITY;
+            boolean ambiguous = false;
+            for (int candidate = 0; candidate < numbers.length; candidate++) {
+                double delta = Math.abs(numbers[candidate] - value);
+                if (delta > tolerance) {
+                    continue;
+                }
+                if (delta < bestDelta) {
+                    best = results[candidate];
+                    bestDelta = delta;
+                    ambiguous = false;
+                } else if (delta == bestDelta && results[candidate] != best) {
+                    ambiguous = true;
+                }
+            }
+            return ambiguous ? null : best;
+        };
+    }
+
+    private static AnswerMatcher patterns(List<String> sources) {
+        if (sources.isEmpty()) {
+            return null;
+        }
+
+        Pattern[] patterns = sources.stream()
+            .map(source -> Pattern.compile(source, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE))
+            .toArray(Pattern[]::new);
+        AnswerMatch match = new AnswerMatch(AnswerMatch.Kind.PATTERN, null, true);
+        return (input, fallback) -> {
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(input).matches()) {
+                    return match;
+                }
+            }
+            return null;
+        };
+    }
+
+    private static AnswerMatcher typos(Collection<String> acceptedAnswers, TypoTolerance ownTolerance) {
+        List<String> words = acceptedAnswers.stream().filter(answer -> Double.isNaN(parseNumber(answer))).toList();
+        if (words.isEmpty()) {
+            return null;
+        }
+
+        BkTree tree = new BkTree(words);
+        AnswerMatch match = new AnswerMatch(AnswerMatch.Kind.TYPO, null, true);
+        return (input, fallback) -> {
+            TypoTolerance tolerance = ownTolerance != null ? ownTolerance : fallback;
+            return tolerance != null && tolerance.enabled() && tree.matches(input, tolerance) ? match : null;
+        };
+    }
+
+    private static void addIfPresent(List<AnswerMatcher> matchers, AnswerMatcher matcher) {
+        if (matcher != null) {
+            matchers.add(matcher);
+        }
+    }
+
+    /**
+     * Parses a plain decimal number with an optional sign and a dot or comma separator.
+     *
+     * <p>{@code 1.000} means one thousand in Spanish and one in English, so a separator followed
+     * by exactly three digits after a non-zero integer part of one to three digits is ambiguous
+     * and rejected. {@code 0.125} and {@code 1.5} still parse.</p>
+     *
+     * @return the value, or {@link Double#NaN} when the text is not such a number
+     */
+    static double parseNumber(String text) {
+        int length = text.length();
+        if (length == 0 || length > 32) {
+            return Double.NaN;
+        }
+
+        boolean negative = text.charAt(0) == '-';
+        int start = negative || text.charAt(0) == '+' ? 1 : 0;
+        int separator = -1;
+        int digits = 0;
+        long mantissa = 0L;
+        for (int position = start; position < length; position++) {
+            char character = text.charAt(position);
+            if (character >= '0' && character <= '9') {
+                digits++;
+                if (digits <= MAX_EXACT_DIGITS) {
+                    mantissa = mantissa * 10L + (character - '0');
+                }
+            } else if ((character == '.' || character == ',') && separator < 0) {
+                separator = position;
+            } else {
+                return Double.NaN;
+            }
+        }
+
+        if (digits == 0) {
+            return Double.NaN;
+        }
+
+        if (separator >= 0) {
+            int integerDigits = separator - start;
+            int fractionDigits = length - separator - 1;
+            if (fractionDigits == 3 && integerDigits >= 1 && integerDigits <= 3 && text.charAt(start) != '0') {
+                return Double.NaN;
+            }
+        }
+
+        if (digits > MAX_EXACT_DIGITS) {
+            // Too long for the exact path below; rare enough to fall back to the JDK parser.
+            return Double.parseDouble(text.replace(',', '.'));
+        }
+
+        // Both operands are exact doubles, so the division is correctly rounded like parseDouble.
+        int scale = separator < 0 ? 0 : length - separator - 1;
+        double value = mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+}
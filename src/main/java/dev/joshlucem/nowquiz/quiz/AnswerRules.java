@@ -0,0 +1,24 @@
+package dev.joshlucem.nowquiz.quiz;
+
+import java.util.List;
+
+/**
+ * Per-question settings that widen what counts as a correct open answer.
+ *
+ * @param typoTolerance edit budget, or {@code null} to use {@code answer.typo-tolerance}
+ * @param patterns regular expressions matched against the normalized answer
+ * @param numericTolerance maximum absolute difference for numeric answers
+ */
+public record AnswerRules(TypoTolerance typoTolerance, List<String> patterns, double numericTolerance) {
+
+    private static final AnswerRules DEFAULTS = new AnswerRules(null, List.of(), 0.0D);
+
+    public AnswerRules {
+        patterns = List.copyOf(patterns);
+        numericTolerance = Math.max(0.0D, numericTolerance);
+    }
+
+    public static AnswerRules defaults() {
+        return DEFAULTS;
+    }
+}
@@ -0,0 +1,156 @@
+package dev.joshlucem.nowquiz.quiz;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Burkhard-Keller tree over the normalized accepted answers of an open question.
+ *
+ * <p>Children are keyed by their edit distance to the parent, so a lookup only descends into
+ * children whose edge lies within the search radius of the distance to the current node. Each
+ * visited node is compared with a banded Levenshtein that gives up as soon as the distance
+ * cannot matter for the search.</p>
+ */
+final class BkTree {
+
+    private final Node root;
+    private final int longestTerm;
+
+    BkTree(Collection<String> terms) {
+        Node root = null;
+        int longestTerm = 0;
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+
+            longestTerm = Math.max(longestTerm, term.length());
+            if (root == null) {
+                root = new Node(term);
+            } else {
+                root.add(term);
+            }
+        }
+        this.root = root;
+        this.longestTerm = longestTerm;
+    }
+
+    /**
+     * Returns whether any term is within the tolerance's budget for that term.
+     */
+    boolean matches(String query, TypoTolerance tolerance) {
+        if (this.root == null || query.isEmpty()) {
+            return false;
+        }
+
+        int radius = tolerance.editsFor(this.longestTerm);
+        return radius > 0 && this.search(this.root, query, radius, tolerance);
+    }
+
+    private boolean search(Node node, String query, int radius, TypoTolerance tolerance) {
+        int distance = boundedDistance(node.term, query, radius + node.maxEdge());
+        if (distance <= tolerance.editsFor(node.term.length())) {
+            return true;
+        }
+
+        Node[] children = node.children;
+        if (children == null) {
+            return false;
+        }
+
+        int from = Math.max(1, distance - radius);
+        int to = Math.min(children.length - 1, distance + radius);
+        for (int edge = from; edge <= to; edge++) {
+            Node child = children[edge];
+            if (child != null && this.search(child, query, radius, tolerance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Levenshtein distance restricted to a diagonal band of width {@code limit}.
+     *
+     * @return the exact distance, or {@code limit + 1} when it is larger than {@code limit}
+     */
+    static int boundedDistance(String left, String right, int limit) {
+        int leftLength = left.length();
+        int rightLength = right.length();
+        if (Math.abs(leftLength - rightLength) > limit) {
+            return limit + 1;
+        }
+
+        int outside = limit + 1;
+        int[] previous = new int[rightLength + 1];
+        int[] current = new int[rightLength + 1];
+        for (int column = 0; column <= rightLength; column++) {
+            previous[column] = column <= limit ? column : outside;
+        }
+
+        for (int row = 1; row <= leftLength; row++) {
+            int from = Math.max(1, row - limit);
+            int to = Math.min(rightLength, row + limit);
+            Arrays.fill(current, outside);
+            current[0] = row <= limit ? row : outside;
+
+            int rowMinimum = current[0];
+            char leftChar = left.charAt(row - 1);
+            for (int column = from; column <= to; column++) {
+                int cost = leftChar == right.charAt(column - 1) ? 0 : 1;
+                int value = Math.min(
+                    previous[column - 1] + cost,
+                    Math.min(previous[column] + 1, current[column - 1] + 1)
+                );
+                current[column] = Math.min(value, outside);
+                rowMinimum = Math.min(rowMinimum, current[column]);
+            }
+
+            if (rowMinimum > limit) {
+                return outside;
+            }
+
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[rightLength];
+    }
+
+    private static final class Node {
+
+        private final String term;
+        private Node[] children;
+
+        private Node(String term) {
+            this.term = term;
+        }
+
+        private void add(String term) {
+            Node node = this;
+            while (true) {
+                int distance = boundedDistance(node.term, term, Math.max(node.term.length(), term.length()));
+                if (distance == 0) {
+                    return;
+                }
+
+                if (node.children == null || node.children.length <= distance) {
+                    node.children = node.children == null
+                        ? new Node[distance + 1]
+                        : Arrays.copyOf(node.children, distance + 1);
+                }
+
+                Node child = node.children[distance];
+                if (child == null) {
+                    node.children[distance] = new Node(term);
+                    return;
+                }
+                node = child;
+            }
+        }
+
+        private int maxEdge() {
+            return this.children == null ? 0 : this.children.length - 1;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package dev.joshlucem.nowquiz.quiz;
+
+import dev.joshlucem.nowquiz.util.TextUtil;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cheap per-round check that rejects chat messages which cannot be an answer.
+ *
+ * <p>With a chat prefix, only messages that start with it pass. Without one, only choice
+ * questions capture chat and a message passes when its length fits the option keys and texts
+ * and its first character can start one of them. Anything that passes is still resolved
+ * through the question's matchers; the filter only has to avoid false rejections.</p>
+ */
+public final class ChatPrefilter {
+
+    // Whitespace runs and decomposed accents can make raw input longer than its normalized form.
+    private static final int RAW_LENGTH_SLACK = 4;
+
+    private final String prefix;
+    private final boolean capturesUnprefixed;
+    private final boolean[] firstCharacters;
+    private final int minLength;
+    private final int maxLength;
+
+    private ChatPrefilter(String prefix, boolean capturesUnprefixed, boolean[] firstCharacters, int minLength, int maxLength) {
+        this.prefix = prefix;
+        this.capturesUnprefixed = capturesUnprefixed;
+        this.firstCharacters = firstCharacters;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    public static ChatPrefilter compile(Question question, String chatPrefix) {
+        if (chatPrefix != null && !chatPrefix.isBlank()) {
+            return new ChatPrefilter(chatPrefix, false, new boolean[0], 0, 0);
+        }
+
+        if (question.type() == QuestionType.OPEN) {
+            return new ChatPrefilter(null, false, new boolean[0], 0, 0);
+        }
+
+        List<String> inputs = new ArrayList<>();
+        for (AnswerOption option : question.options().values()) {
+            inputs.add(TextUtil.normalizeAnswer(option.key()));
+            inputs.add(TextUtil.normalizeAnswer(option.text()));
+        }
+
+        boolean[] firstCharacters = new boolean[128];
+        int minLength = Integer.MAX_VALUE;
+        int maxLength = 0;
+        for (String input : inputs) {
+            if (input.isEmpty()) {
+                continue;
+            }
+
+            minLength = Math.min(minLength, input.length());
+            maxLength = Math.max(maxLength, input.length());
+            char first = input.charAt(0);
+            if (first < firstCharacters.length) {
+                firstCharacters[first] = true;
+            }
+            if (first >= '0' && first <= '9') {
+                // Numeric option texts also match "+20", "-1" or ",5".
+                firstCharacters['+'] = true;
+                firstCharacters['-'] = true;
+                firstCharacters['.'] = true;
+                firstCharacters[','] = true;
+                for (char digit = '0'; digit <= '9'; digit++) {
+                    firstCharacters[digit] = true;
+                }
+                minLength = 1;
+                maxLength = Math.max(maxLength, 32);
+            }
+        }
+
+        if (maxLength == 0) {
+            return new ChatPrefilter(null, false, new boolean[0], 0, 0);
+        }
+        return new ChatPrefilter(null, true, firstCharacters, minLength, maxLength * RAW_LENGTH_SLACK);
+    }
+
+    /**
+     * Returns {@code false} only when the message cannot be an answer for this round.
+     */
+    public boolean mayMatch(String message) {
+        int start = 0;
+        int end = message.length();
+        while (start < end && message.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && message.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int length = end - start;
+        if (this.prefix != null) {
+            return length > this.prefix.length() && message.startsWith(this.prefix, start);
+        }
+
+        if (!this.capturesUnprefixed || length < this.minLength || length > this.maxLength) {
+            return false;
+        }
+
+        char first = message.charAt(start);
+        return first >= this.firstCharacters.length || this.firstCharacters[Character.toLowerCase(first)];
+    }
+
+    /**
+     * Whether this round can capture any chat message at all.
+     */
+    public boolean capturesChat() {
+        return this.prefix != null || this.capturesUnprefixed;
+    }
+}
@@ -0,0 +1,40 @@
+package dev.joshlucem.nowquiz.quiz;
+
+import java.util.List;
+
+/**
+ * Heap-backed bank used when questions are loaded straight from YAML.
+ */
+final class InMemoryQuestionBank implements QuestionBank {
+
+    private final List<Question> questions;
+
+    InMemoryQuestionBank(List<Question> questions) {
+        this.questions = List.copyOf(questions);
+    }
+
+    @Override
+    public int size() {
+        return this.questions.size();
+    }
+
+    @Override
+    public String id(int index) {
+        return this.questions.get(index).id();
+    }
+
+    @Override
+    public String category(int index) {
+        return this.questions.get(index).category();
+    }
+
+    @Override
+    public String difficulty(int index) {
+        return this.questions.get(index).rewardProfile();
+    }
+
+    @Override
+    public Question load(int index) {
+        return this.questions.get(index);
+    }
+}
@@ -10,6 +10,7 @@ public record PlayerAnswer(
     String playerName,
     String rawInput,
     long submittedAtMillis,
+    long submittedAtNanos,
     long responseTimeMillis,
     boolean correct,
     boolean rewardEligible
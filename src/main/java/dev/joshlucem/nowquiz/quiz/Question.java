@@ -5,8 +5,10 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
@@ -19,11 +21,13 @@ public final class Question {
     private final String id;
     private final QuestionType type;
     private final String prompt;
-    private final LinkedHashMap<String, AnswerOption> options;
+    private final Map<String, AnswerOption> options;
     private final String correctKeyOrAnswer;
     private final Set<String> acceptedAnswers;
     private final String rewardProfile;
     private final RewardDefinition rewardOverrides;
+    private final AnswerRules answerRules;
+    private final List<AnswerMatcher> matchers;
 
     public Question(
         String category,
@@ -34,19 +38,22 @@ public final class Question {
         String correctKeyOrAnswer,
         Collection<String> acceptedAnswers,
         String rewardProfile,
-        RewardDefinition rewardOverrides
+        RewardDefinition rewardOverrides,
+        AnswerRules answerRules
     ) {
         this.category = category;
         this.id = id;
         this.type = type;
         this.prompt = prompt;
-        this.options = new LinkedHashMap<>(options);
+        this.options = Collections.unmodifiableMap(new LinkedHashMap<>(options));
         this.correctKeyOrAnswer = correctKeyOrAnswer;
-        this.acceptedAnswers = acceptedAnswers.stream()
+        this.acceptedAnswers = Collections.unmodifiableSet(acceptedAnswers.stream()
             .map(TextUtil::normalizeAnswer)
-            .collect(LinkedHashSet::new, Set::add, Set::addAll);
+            .collect(LinkedHashSet::new, Set::add, Set::addAll));
         this.rewardProfile = rewardProfile;
         this.rewardOverrides = rewardOverrides == null ? RewardDefinition.empty() : rewardOverrides;
+        this.answerRules = answerRules == null ? AnswerRules.defaults() : answerRules;
+        this.matchers = AnswerMatchers.compile(type, this.options.values(), correctKeyOrAnswer, this.acceptedAnswers, this.answerRules);
     }
 
     public String category() {
@@ -65,8 +72,22 @@ public final class Question {
         return this.prompt;
     }
 
+    /**
+     * Options in declaration order. The map is shared and read-only.
+     */
     public Map<String, AnswerOption> options() {
-        return Collections.unmodifiableMap(new LinkedHashMap<>(this.options));
+        return this.options;
+    }
+
+    public String correctKeyOrAnswer() {
+        return this.correctKeyOrAnswer;
+    }
+
+    /**
+     * Accepted answers in their normalized form.
+     */
+    public Set<String> acceptedAnswers() {
+        return this.acceptedAnswers;
     }
 
     public String rewardProfile() {
@@ -77,29 +98,40 @@ public final class Question {
         return this.rewardOverrides;
     }
 
-    public Optional<String> resolveOptionKey(String rawInput) {
-        if (this.type == QuestionType.OPEN) {
-            return Optional.empty();
-        }
+    public AnswerRules answerRules() {
+        return this.answerRules;
+    }
 
-        String normalized = TextUtil.normalizeAnswer(rawInput);
-        for (AnswerOption option : this.options.values()) {
-            if (option.key().equalsIgnoreCase(normalized)
-                || TextUtil.normalizeAnswer(option.text()).equals(normalized)) {
-                return Optional.of(option.key());
+    /**
+     * Resolves the input without the global typo tolerance.
+     */
+    public ResolvedAnswer resolve(String rawInput) {
+        return this.resolve(rawInput, TypoTolerance.OFF);
+    }
+
+    /**
+     * Normalizes the input once and runs it through the question's matcher chain.
+     *
+     * @param fallback typo tolerance for open answers when the question does not set one
+     */
+    public ResolvedAnswer resolve(String rawInput, TypoTolerance fallback) {
+        String input = rawInput == null ? "" : rawInput.trim();
+        String normalized = TextUtil.normalizeAnswer(input);
+        for (AnswerMatcher matcher : this.matchers) {
+            AnswerMatch match = matcher.match(normalized, fallback);
+            if (match != null) {
+                return new ResolvedAnswer(input, match);
             }
         }
+        return new ResolvedAnswer(input, AnswerMatch.NONE);
+    }
 
-        return Optional.empty();
+    public Optional<String> resolveOptionKey(String rawInput) {
+        return Optional.ofNullable(this.resolve(rawInput).optionKey());
     }
 
     public boolean isCorrect(String rawInput) {
-        return switch (this.type) {
-            case MULTIPLE, TRUE_FALSE -> this.resolveOptionKey(rawInput)
-                .map(optionKey -> optionKey.equalsIgnoreCase(this.correctKeyOrAnswer))
-                .orElse(false);
-            case OPEN -> this.acceptedAnswers.contains(TextUtil.normalizeAnswer(rawInput));
-        };
+        return this.resolve(rawInput).correct();
     }
 
     public String correctAnswerDisplay() {
@@ -116,15 +148,44 @@ public final class Question {
     }
 
     public String displayFor(String rawInput) {
-        if (this.type == QuestionType.OPEN) {
-            return rawInput;
+        return this.displayFor(this.resolve(rawInput));
+    }
+
+    public String displayFor(ResolvedAnswer answer) {
+        if (this.type == QuestionType.OPEN || !answer.matchesOption()) {
+            return answer.input();
         }
 
-        return this.resolveOptionKey(rawInput)
-            .map(optionKey -> {
-                AnswerOption option = this.options.get(optionKey.toUpperCase(Locale.ROOT));
-                return option == null ? optionKey : option.key() + " - " + option.text();
-            })
-            .orElse(rawInput);
+        AnswerOption option = this.options.get(answer.optionKey());
+        return option == null ? answer.optionKey() : option.key() + " - " + option.text();
+    }
+
+    /**
+     * Content equality, used by hot reload to tell edited questions from untouched ones.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Question question)) {
+            return false;
+        }
+
+        return this.type == question.type
+            && this.category.equals(question.category)
+            && this.id.equals(question.id)
+            && this.prompt.equals(question.prompt)
+            && this.options.equals(question.options)
+            && Objects.equals(this.correctKeyOrAnswer, question.correctKeyOrAnswer)
+            && this.acceptedAnswers.equals(question.acceptedAnswers)
+            && Objects.equals(this.rewardProfile, question.rewardProfile)
+            && this.rewardOverrides.equals(question.rewardOverrides)
+            && this.answerRules.equals(question.answerRules);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.category, this.id, this.type, this.prompt);
     }
 }
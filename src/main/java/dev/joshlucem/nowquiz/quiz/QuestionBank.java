@@ -0,0 +1,36 @@
+package dev.joshlucem.nowquiz.quiz;
+
+import java.util.List;
+
+/**
+ * Indexed, read-only source of questions.
+ *
+ * <p>Id, category and difficulty are always cheap to read so selection can run
+ * over the whole bank, while the full {@link Question} is only materialized by
+ * {@link #load(int)} for the entries that are actually used.</p>
+ */
+public interface QuestionBank {
+
+    int size();
+
+    String id(int index);
+
+    String category(int index);
+
+    String difficulty(int index);
+
+    Question load(int index);
+
+    /**
+     * Whether entry {@code index} holds the same question as entry {@code otherIndex} of {@code other}.
+     *
+     * <p>Banks that can compare their stored form override this to avoid decoding either question.</p>
+     */
+    default boolean sameQuestion(int index, QuestionBank other, int otherIndex) {
+        return this.load(index).equals(other.load(otherIndex));
+    }
+
+    static QuestionBank of(List<Question> questions) {
+        return new InMemoryQuestionBank(questions);
+    }
+}
@@ -1,17 +1,38 @@
 package dev.joshlucem.nowquiz.quiz;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Mutable runtime state for the active quiz round.
  *
- * <p>Only the active round mutates, while the immutable question data remains shared and cached.</p>
+ * <p>Only the active round mutates, while the immutable question data remains shared and cached.
+ * Answers are recorded from chat threads and the main thread at once without locking: each
+ * player has one slot claimed with {@code putIfAbsent}, and {@link #close()} flips the open flag
+ * and waits for in-flight writers before it snapshots the slots, so no answer lands after the
+ * result was taken. The result orders answers by {@link PlayerAnswer#submittedAtNanos()}.</p>
+ *
+ * <p>In single-winner rounds the first correct, reward-eligible answer claims the win with a
+ * compare-and-set as it is recorded, so closing does not scan for it. With
+ * {@code closeOnFirstCorrect} the claim also stops the round from taking further answers.</p>
+ *
+ * <p>When the question is delivered in chunks, arrival order favours the players who received
+ * it first, so the win goes to the fastest response time instead. Correct answers only compete
+ * for the fastest slot as they are recorded, and {@link #confirmClaim(long)} turns that answer
+ * into the claim once the whole audience has the question and no later answer could still beat
+ * it: an answer arriving after the last delivery plus the fastest response time is slower by
+ * construction.</p>
  */
 public final class QuizRound {
 
@@ -20,10 +41,20 @@ public final class QuizRound {
     private final long startedAtMillis;
     private final long closesAtMillis;
     private final boolean allowMultipleWinners;
+    private final boolean closeOnFirstCorrect;
+    private final boolean rankByResponseTime;
     private final Set<UUID> eligiblePlayers;
     private final String anchorWorldName;
-    private final LinkedHashMap<UUID, PlayerAnswer> answers;
-    private boolean open;
+    private final ChatPrefilter chatPrefilter;
+    private final ConcurrentHashMap<UUID, PlayerAnswer> answers;
+    private final ConcurrentHashMap<UUID, Long> deliveredAt;
+    private final AtomicBoolean open;
+    private final AtomicInteger writers;
+    private final AtomicReference<PlayerAnswer> claimedWinner;
+    private final AtomicReference<PlayerAnswer> fastestCorrect;
+    private volatile long lastDeliveredAtMillis;
+    private volatile boolean deliveryComplete;
+    private volatile RoundResult result;
 
     public QuizRound(
         long roundId,
@@ -31,18 +62,29 @@ public final class QuizRound {
         long startedAtMillis,
         long closesAtMillis,
         boolean allowMultipleWinners,
+        boolean closeOnFirstCorrect,
+        boolean rankByResponseTime,
         Collection<UUID> eligiblePlayers,
-        String anchorWorldName
+        String anchorWorldName,
+        ChatPrefilter chatPrefilter
     ) {
         this.roundId = roundId;
         this.question = question;
         this.startedAtMillis = startedAtMillis;
         this.closesAtMillis = closesAtMillis;
         this.allowMultipleWinners = allowMultipleWinners;
-        this.eligiblePlayers = Collections.unmodifiableSet(new LinkedHashSet<>(eligiblePlayers));
+        this.closeOnFirstCorrect = closeOnFirstCorrect && !allowMultipleWinners;
+        this.rankByResponseTime = rankByResponseTime && !allowMultipleWinners;
+        // Audience snapshots are already immutable sets, which Set.copyOf returns as-is.
+        this.eligiblePlayers = Set.copyOf(eligiblePlayers);
         this.anchorWorldName = anchorWorldName;
-        this.answers = new LinkedHashMap<>();
-        this.open = true;
+        this.chatPrefilter = chatPrefilter;
+        this.answers = new ConcurrentHashMap<>();
+        this.deliveredAt = new ConcurrentHashMap<>();
+        this.open = new AtomicBoolean(true);
+        this.writers = new AtomicInteger();
+        this.claimedWinner = new AtomicReference<>();
+        this.fastestCorrect = new AtomicReference<>();
     }
 
     public long roundId() {
@@ -65,6 +107,20 @@ public final class QuizRound {
         return this.allowMultipleWinners;
     }
 
+    /**
+     * Whether the round stops taking answers as soon as its single winner is claimed.
+     */
+    public boolean closesOnFirstCorrect() {
+        return this.closeOnFirstCorrect;
+    }
+
+    /**
+     * Whether the single winner is the fastest response time rather than the first arrival.
+     */
+    public boolean ranksByResponseTime() {
+        return this.rankByResponseTime;
+    }
+
     public Set<UUID> eligiblePlayers() {
         return this.eligiblePlayers;
     }
@@ -73,32 +129,156 @@ public final class QuizRound {
         return this.anchorWorldName;
     }
 
+    public ChatPrefilter chatPrefilter() {
+        return this.chatPrefilter;
+    }
+
     public boolean isOpen() {
-        return this.open;
+        return this.open.get();
     }
 
     public boolean isEligible(UUID playerId) {
         return this.eligiblePlayers.contains(playerId);
     }
 
+    /**
+     * Records when the question reached the player; response times are measured from here.
+     */
+    public void markDelivered(UUID playerId, long deliveredAtMillis) {
+        if (this.deliveredAt.putIfAbsent(playerId, deliveredAtMillis) == null && deliveredAtMillis > this.lastDeliveredAtMillis) {
+            this.lastDeliveredAtMillis = deliveredAtMillis;
+        }
+    }
+
+    /**
+     * Records that every recipient has been sent the question. Main thread only, like {@link #markDelivered}.
+     */
+    public void markDeliveryComplete() {
+        this.deliveryComplete = true;
+    }
+
+    /**
+     * When the question reached the player, or {@code -1} while it has not been sent to them yet.
+     */
+    public long deliveredAtMillis(UUID playerId) {
+        Long delivered = this.deliveredAt.get(playerId);
+        return delivered == null ? -1L : delivered;
+    }
+
     public boolean hasAnswered(UUID playerId) {
         return this.answers.containsKey(playerId);
     }
 
+    /**
+     * Claims the player's answer slot and, in single-winner rounds, the win. Safe to call from any thread.
+     *
+     * @return {@code false} when the round is closed or the player already answered
+     */
     public boolean recordAnswer(PlayerAnswer answer) {
-        if (!this.open || this.answers.containsKey(answer.playerId())) {
-            return false;
+        this.writers.incrementAndGet();
+        try {
+            if (!this.open.get() || this.answers.putIfAbsent(answer.playerId(), answer) != null) {
+                return false;
+            }
+
+            if (this.allowMultipleWinners || !answer.correct() || !answer.rewardEligible()) {
+                return true;
+            }
+
+            if (this.rankByResponseTime) {
+                this.fastestCorrect.accumulateAndGet(answer, QuizRound::faster);
+            } else if (this.claimedWinner.compareAndSet(null, answer) && this.closeOnFirstCorrect) {
+                this.open.set(false);
+            }
+            return true;
+        } finally {
+            this.writers.decrementAndGet();
         }
+    }
+
+    /**
+     * The answer that claimed the win of a single-winner round, or {@code null} while nobody has.
+     */
+    public PlayerAnswer claimedWinner() {
+        return this.claimedWinner.get();
+    }
 
-        this.answers.put(answer.playerId(), answer);
-        return true;
+    /**
+     * Settles the claim of a round ranked by response time once its fastest correct answer can no
+     * longer be beaten, then returns the claimed winner so far. Safe to call from any thread.
+     */
+    public PlayerAnswer confirmClaim(long nowMillis) {
+        PlayerAnswer fastest = this.fastestCorrect.get();
+        if (this.rankByResponseTime && fastest != null && this.deliveryComplete
+            && nowMillis >= this.lastDeliveredAtMillis + fastest.responseTimeMillis()) {
+            // Counted as a writer so close() does not snapshot halfway through the claim.
+            this.writers.incrementAndGet();
+            try {
+                if (this.open.get() && this.claimedWinner.compareAndSet(null, this.fastestCorrect.get()) && this.closeOnFirstCorrect) {
+                    this.open.set(false);
+                }
+            } finally {
+                this.writers.decrementAndGet();
+            }
+        }
+        return this.claimedWinner.get();
     }
 
+    /**
+     * Read-only live view of the answers recorded so far, in no particular order.
+     */
     public Map<UUID, PlayerAnswer> answers() {
-        return Collections.unmodifiableMap(new LinkedHashMap<>(this.answers));
+        return Collections.unmodifiableMap(this.answers);
     }
 
-    public void close() {
-        this.open = false;
+    /**
+     * Closes the round and snapshots its answers and winners. Later calls return the same result.
+     */
+    public synchronized RoundResult close() {
+        if (this.result != null) {
+            return this.result;
+        }
+
+        this.open.set(false);
+        while (this.writers.get() > 0) {
+            Thread.onSpinWait();
+        }
+
+        List<PlayerAnswer> answers = new ArrayList<>(this.answers.values());
+        answers.sort(Comparator.comparingLong(PlayerAnswer::submittedAtNanos));
+        List<PlayerAnswer> winners = new ArrayList<>();
+        Set<UUID> winnerIds = new LinkedHashSet<>();
+        if (!this.allowMultipleWinners) {
+            PlayerAnswer claimed = this.claimedWinner.get();
+            PlayerAnswer winner = claimed != null ? claimed : this.fastestCorrect.get();
+            if (winner != null) {
+                winners.add(winner);
+                winnerIds.add(winner.playerId());
+            }
+        } else {
+            for (PlayerAnswer answer : answers) {
+                if (answer.correct() && answer.rewardEligible()) {
+                    winners.add(answer);
+                    winnerIds.add(answer.playerId());
+                }
+            }
+        }
+
+        this.result = new RoundResult(
+            this.roundId,
+            this.question,
+            List.copyOf(answers),
+            List.copyOf(winners),
+            Collections.unmodifiableSet(winnerIds)
+        );
+        return this.result;
+    }
+
+    private static PlayerAnswer faster(PlayerAnswer current, PlayerAnswer candidate) {
+        if (current == null) {
+            return candidate;
+        }
+        int order = Long.compare(candidate.responseTimeMillis(), current.responseTimeMillis());
+        return order < 0 || (order == 0 && candidate.submittedAtNanos() < current.submittedAtNanos()) ? candidate : current;
     }
 }
@@ -0,0 +1,25 @@
+package dev.joshlucem.nowquiz.quiz;
+
+/**
+ * A submission resolved against a question once, so validation, scoring and feedback share the result.
+ *
+ * @param input the trimmed text the player sent
+ * @param match what the question's matcher chain made of it
+ */
+public record ResolvedAnswer(String input, AnswerMatch match) {
+
+    /**
+     * The matched option key, or {@code null} for open answers and unknown options.
+     */
+    public String optionKey() {
+        return this.match.optionKey();
+    }
+
+    public boolean correct() {
+        return this.match.correct();
+    }
+
+    public boolean matchesOption() {
+        return this.match.optionKey() != null;
+    }
+}
@@ -0,0 +1,21 @@
+package dev.joshlucem.nowquiz.quiz;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable outcome of a closed round, built once and shared by rewards, stats and the summary.
+ *
+ * @param answers every answer in submission order
+ * @param winners winning answers in submission order
+ * @param winnerIds ids of {@code winners}
+ */
+public record RoundResult(
+    long roundId,
+    Question question,
+    List<PlayerAnswer> answers,
+    List<PlayerAnswer> winners,
+    Set<UUID> winnerIds
+) {
+}
@@ -0,0 +1,78 @@
+package dev.joshlucem.nowquiz.quiz;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * How many single-character edits an open answer may be away from an accepted answer.
+ *
+ * <p>{@code auto} scales with the accepted answer: no edits up to 4 characters, one edit up to
+ * 8 characters and two edits beyond that. A fixed value applies to every accepted answer.</p>
+ *
+ * @param maxEdits fixed edit budget, or {@code -1} for {@code auto}
+ */
+public record TypoTolerance(int maxEdits) {
+
+    public static final TypoTolerance OFF = new TypoTolerance(0);
+    public static final TypoTolerance AUTO = new TypoTolerance(-1);
+
+    private static final int MAX_FIXED_EDITS = 3;
+
+    public TypoTolerance {
+        maxEdits = Math.max(-1, Math.min(MAX_FIXED_EDITS, maxEdits));
+    }
+
+    /**
+     * Parses {@code off}, {@code auto} or an edit count.
+     */
+    public static Optional<TypoTolerance> parse(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return Optional.empty();
+        }
+
+        String value = raw.trim().toLowerCase(Locale.ROOT);
+        return switch (value) {
+            case "off", "false" -> Optional.of(OFF);
+            case "auto", "true" -> Optional.of(AUTO);
+            default -> {
+                try {
+                    yield Optional.of(new TypoTolerance(Math.max(0, Integer.parseInt(value))));
+                } catch (NumberFormatException exception) {
+                    yield Optional.empty();
+                }
+            }
+        };
+    }
+
+    public static TypoTolerance fromConfig(String raw) {
+        return parse(raw).orElse(OFF);
+    }
+
+    public boolean enabled() {
+        return this.maxEdits != 0;
+    }
+
+    public boolean isAuto() {
+        return this.maxEdits < 0;
+    }
+
+    /**
+     * Edit budget for an accepted answer of the given length.
+     */
+    public int editsFor(int answerLength) {
+        if (!this.isAuto()) {
+            return this.maxEdits;
+        }
+        if (answerLength <= 4) {
+            return 0;
+        }
+        return answerLength <= 8 ? 1 : 2;
+    }
+
+    public String configValue() {
+        if (this.isAuto()) {
+            return "auto";
+        }
+        return this.maxEdits == 0 ? "off" : Integer.toString(this.maxEdits);
+    }
+}
@@ -0,0 +1,117 @@
+package dev.joshlucem.nowquiz.storage;
+
+import dev.joshlucem.nowquiz.quiz.Question;
+import dev.joshlucem.nowquiz.quiz.RewardDefinition;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Binary snapshot of the parsed question and reward sources.
+ *
+ * <p>The snapshot is keyed by a content hash of the source files. A matching snapshot lets
+ * startup and reload skip YAML parsing and material matching entirely; a stale or unreadable one
+ * is simply ignored.</p>
+ */
+public record ContentSnapshot(List<Question> questions, Map<String, RewardDefinition> rewardProfiles) {
+
+    private static final int MAGIC = 0x4E515353;
+    private static final int VERSION = 3;
+
+    public ContentSnapshot {
+        questions = List.copyOf(questions);
+        rewardProfiles = Map.copyOf(rewardProfiles);
+    }
+
+    /**
+     * Reads the snapshot if it exists and was written for exactly this source hash.
+     */
+    public static Optional<ContentSnapshot> read(Path file, byte[] expectedHash) {
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return Optional.empty();
+            }
+
+            byte[] hash = new byte[buffer.getInt()];
+            buffer.get(hash);
+            if (!Arrays.equals(hash, expectedHash)) {
+                return Optional.empty();
+            }
+
+            int profileCount = buffer.getInt();
+            Map<String, RewardDefinition> profiles = new LinkedHashMap<>();
+            for (int index = 0; index < profileCount; index++) {
+                String name = QuestionCodec.readString(buffer);
+                profiles.put(name, QuestionCodec.readReward(buffer));
+            }
+
+            int questionCount = buffer.getInt();
+            List<Question> questions = new ArrayList<>(questionCount);
+            for (int index = 0; index < questionCount; index++) {
+                questions.add(QuestionCodec.readQuestion(buffer));
+            }
+            return Optional.of(new ContentSnapshot(questions, profiles));
+        } catch (IOException | RuntimeException exception) {
+            // Truncated or foreign files are treated like a cache miss.
+            return Optional.empty();
+        }
+    }
+
+    public static void write(
+        Path file,
+        byte[] sourceHash,
+        Collection<Question> questions,
+        Map<String, RewardDefinition> rewardProfiles
+    ) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        // A unique temporary file keeps concurrent writers from interleaving; the last move wins.
+        Path temporary = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            writeTo(temporary, sourceHash, questions, rewardProfiles);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void writeTo(
+        Path temporary,
+        byte[] sourceHash,
+        Collection<Question> questions,
+        Map<String, RewardDefinition> rewardProfiles
+    ) throws IOException {
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeInt(sourceHash.length);
+            output.write(sourceHash);
+
+            output.writeInt(rewardProfiles.size());
+            for (Map.Entry<String, RewardDefinition> entry : rewardProfiles.entrySet()) {
+                QuestionCodec.writeString(output, entry.getKey());
+                QuestionCodec.writeReward(output, entry.getValue());
+            }
+
+            output.writeInt(questions.size());
+            for (Question question : questions) {
+                QuestionCodec.writeQuestion(output, question);
+            }
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package dev.joshlucem.nowquiz.storage;
+
+import dev.joshlucem.nowquiz.quiz.Question;
+import dev.joshlucem.nowquiz.quiz.QuestionBank;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Question bank backed by a memory-mapped compiled file.
+ *
+ * <p>Only ids, interned category/difficulty indexes and record offsets live on the heap.
+ * Prompts, options, aliases and reward overrides stay in the mapping until a question
+ * is selected and decoded.</p>
+ */
+public final class MappedQuestionBank implements QuestionBank {
+
+    private final MappedByteBuffer buffer;
+    private final byte[] sourceHash;
+    private final String[] ids;
+    private final String[] categories;
+    private final int[] categoryIndexes;
+    private final String[] difficulties;
+    private final int[] difficultyIndexes;
+    private final int[] offsets;
+    private final int indexOffset;
+
+    private MappedQuestionBank(
+        MappedByteBuffer buffer,
+        byte[] sourceHash,
+        String[] ids,
+        String[] categories,
+        int[] categoryIndexes,
+        String[] difficulties,
+        int[] difficultyIndexes,
+        int[] offsets,
+        int indexOffset
+    ) {
+        this.buffer = buffer;
+        this.sourceHash = sourceHash;
+        this.ids = ids;
+        this.categories = categories;
+        this.categoryIndexes = categoryIndexes;
+        this.difficulties = difficulties;
+        this.difficultyIndexes = difficultyIndexes;
+        this.offsets = offsets;
+        this.indexOffset = indexOffset;
+    }
+
+    /**
+     * Maps a compiled bank and reads its index.
+     *
+     * @throws IOException when the file is missing, truncated or written by another format version
+     */
+    public static MappedQuestionBank open(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < QuestionBankWriter.HEADER_BYTES || channel.size() > QuestionBankWriter.MAX_BYTES) {
+                throw new IOException("Compiled question bank " + file + " has an invalid size.");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+
+        if (buffer.getInt() != QuestionBankWriter.MAGIC || buffer.getInt() != QuestionBankWriter.VERSION) {
+            throw new IOException("Compiled question bank " + file + " uses an unsupported format.");
+        }
+
+        int count = buffer.getInt();
+        long indexOffset = buffer.getLong();
+        byte[] sourceHash = new byte[QuestionBankWriter.HASH_BYTES];
+        buffer.get(sourceHash);
+        if (count < 0 || indexOffset < QuestionBankWriter.HEADER_BYTES || indexOffset > buffer.limit()) {
+            throw new IOException("Compiled question bank " + file + " has a corrupt header.");
+        }
+
+        String[] ids = new String[count];
+        int[] categoryIndexes = new int[count];
+        int[] difficultyIndexes = new int[count];
+        int[] offsets = new int[count];
+        Map<String, Integer> categoryTable = new HashMap<>();
+        Map<String, Integer> difficultyTable = new HashMap<>();
+
+        try {
+            ByteBuffer index = buffer.duplicate().position((int) indexOffset);
+            for (int entry = 0; entry < count; entry++) {
+                ids[entry] = QuestionCodec.readString(index);
+                categoryIndexes[entry] = categoryTable.computeIfAbsent(QuestionCodec.readString(index), ignored -> categoryTable.size());
+                difficultyIndexes[entry] = difficultyTable.computeIfAbsent(QuestionCodec.readString(index), ignored -> difficultyTable.size());
+                offsets[entry] = index.getInt();
+            }
+        } catch (RuntimeException exception) {
+            throw new IOException("Compiled question bank " + file + " has a corrupt index.", exception);
+        }
+
+        return new MappedQuestionBank(
+            buffer,
+            sourceHash,
+            ids,
+            toTable(categoryTable),
+            categoryIndexes,
+            toTable(difficultyTable),
+            difficultyIndexes,
+            offsets,
+            (int) indexOffset
+        );
+    }
+
+    /**
+     * Content hash of the sources the bank was compiled from.
+     */
+    public byte[] sourceHash() {
+        return this.sourceHash.clone();
+    }
+
+    @Override
+    public int size() {
+        return this.ids.length;
+    }
+
+    @Override
+    public String id(int index) {
+        return this.ids[index];
+    }
+
+    @Override
+    public String category(int index) {
+        return this.categories[this.categoryIndexes[index]];
+    }
+
+    @Override
+    public String difficulty(int index) {
+        return this.difficulties[this.difficultyIndexes[index]];
+    }
+
+    @Override
+    public Question load(int index) {
+        // Absolute positioning on a private duplicate keeps concurrent decodes independent.
+        return QuestionCodec.readQuestion(this.buffer.duplicate().position(this.offsets[index]));
+    }
+
+    /**
+     * Compares the encoded records byte for byte when both banks are compiled, so a hot reload can
+     * diff two banks without decoding any question.
+     */
+    @Override
+    public boolean sameQuestion(int index, QuestionBank other, int otherIndex) {
+        if (!(other instanceof MappedQuestionBank mapped)) {
+            return QuestionBank.super.sameQuestion(index, other, otherIndex);
+        }
+        return this.record(index).mismatch(mapped.record(otherIndex)) == -1;
+    }
+
+    /**
+     * Records are written back to back in index order, so each one ends where the next begins.
+     */
+    private ByteBuffer record(int index) {
+        int start = this.offsets[index];
+        int end = index + 1 < this.offsets.length ? this.offsets[index + 1] : this.indexOffset;
+        return this.buffer.slice(start, end - start);
+    }
+
+    private static String[] toTable(Map<String, Integer> interned) {
+        String[] table = new String[interned.size()];
+        interned.forEach((value, index) -> table[index] = value);
+        return table;
+    }
+}
@@ -0,0 +1,167 @@
+package dev.joshlucem.nowquiz.storage;
+
+import dev.joshlucem.nowquiz.quiz.Question;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams questions into the compiled bank format read by {@link MappedQuestionBank}.
+ *
+ * <p>Only the small index entries are buffered, so compiling a large bank does not
+ * keep every {@link Question} alive. The file is written to a unique temporary file next to
+ * the target and moved into place on {@link #close()}; if a write fails, the partial file is
+ * deleted instead.</p>
+ *
+ * <p>The whole file is mapped as one buffer with {@code int} record offsets, so a bank may not
+ * grow past {@link #MAX_BYTES}.</p>
+ */
+public final class QuestionBankWriter implements Closeable {
+
+    static final int MAGIC = 0x4E514B42;
+    static final int VERSION = 4;
+    static final int HASH_BYTES = 32;
+    static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES + HASH_BYTES;
+    static final long MAX_BYTES = Integer.MAX_VALUE;
+
+    private final Path target;
+    private final Path temporary;
+    private final CountingOutputStream counter;
+    private final DataOutputStream output;
+    private final List<IndexEntry> entries;
+    private boolean failed;
+    private boolean closed;
+
+    /**
+     * @param sourceHash content hash of the sources this bank is compiled from, used to detect stale banks
+     */
+    public QuestionBankWriter(Path target, byte[] sourceHash) throws IOException {
+        if (sourceHash.length != HASH_BYTES) {
+            throw new IllegalArgumentException("The source hash must be " + HASH_BYTES + " bytes long.");
+        }
+
+        this.target = target;
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        this.temporary = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+        this.counter = new CountingOutputStream(new BufferedOutputStream(Files.newOutputStream(this.temporary)));
+        this.output = new DataOutputStream(this.counter);
+        this.entries = new ArrayList<>();
+
+        this.output.writeInt(MAGIC);
+        this.output.writeInt(VERSION);
+        this.output.writeInt(0);
+        this.output.writeLong(0L);
+        this.output.write(sourceHash);
+    }
+
+    public void add(Question question) throws IOException {
+        // DataOutputStream.size() saturates at Integer.MAX_VALUE, so the offset is counted separately.
+        long offset = this.counter.count();
+        try {
+            QuestionCodec.writeQuestion(this.output, question);
+            this.checkLimit();
+        } catch (IOException | RuntimeException exception) {
+            this.failed = true;
+            throw exception;
+        }
+        this.entries.add(new IndexEntry(question.id(), question.category(), question.rewardProfile(), (int) offset));
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+
+        if (this.failed) {
+            // The failed add already reported its cause; only the partial file is left to clean up.
+            this.discard(null);
+            return;
+        }
+
+        try {
+            long indexOffset = this.counter.count();
+            for (IndexEntry entry : this.entries) {
+                QuestionCodec.writeString(this.output, entry.id());
+                QuestionCodec.writeString(this.output, entry.category());
+                QuestionCodec.writeString(this.output, entry.difficulty());
+                this.output.writeInt(entry.offset());
+            }
+            this.checkLimit();
+            this.output.close();
+
+            try (RandomAccessFile file = new RandomAccessFile(this.temporary.toFile(), "rw")) {
+                file.seek(Integer.BYTES * 2L);
+                file.writeInt(this.entries.size());
+                file.writeLong(indexOffset);
+            }
+
+            Files.move(this.temporary, this.target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException exception) {
+            this.discard(exception);
+            throw exception;
+        }
+    }
+
+    private void discard(Exception cause) throws IOException {
+        try {
+            this.output.close();
+        } catch (IOException closeFailure) {
+            if (cause != null) {
+                cause.addSuppressed(closeFailure);
+            }
+        }
+        Files.deleteIfExists(this.temporary);
+    }
+
+    private void checkLimit() throws IOException {
+        if (this.counter.count() > MAX_BYTES) {
+            throw new IOException("Compiled question bank exceeds the " + MAX_BYTES + " byte mapping limit.");
+        }
+    }
+
+    /**
+     * Counts written bytes as a {@code long}.
+     */
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        private long count;
+
+        private CountingOutputStream(OutputStream output) {
+            super(output);
+        }
+
+        long count() {
+            return this.count;
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            this.out.write(value);
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            this.out.write(bytes, offset, length);
+            this.count += length;
+        }
+    }
+
+    private record IndexEntry(String id, String category, String difficulty, int offset) {
+    }
+}
@@ -0,0 +1,160 @@
+package dev.joshlucem.nowquiz.storage;
+
+import dev.joshlucem.nowquiz.quiz.AnswerOption;
+import dev.joshlucem.nowquiz.quiz.AnswerRules;
+import dev.joshlucem.nowquiz.quiz.Question;
+import dev.joshlucem.nowquiz.quiz.QuestionType;
+import dev.joshlucem.nowquiz.quiz.RewardDefinition;
+import dev.joshlucem.nowquiz.quiz.RewardItem;
+import dev.joshlucem.nowquiz.quiz.TypoTolerance;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import org.bukkit.Material;
+
+/**
+ * Binary encoding shared by the compiled question bank and the content snapshot.
+ *
+ * <p>Strings are stored as a length-prefixed UTF-8 block so records can be decoded
+ * straight out of a mapped buffer without any intermediate stream.</p>
+ */
+final class QuestionCodec {
+
+    private static final QuestionType[] TYPES = QuestionType.values();
+
+    private QuestionCodec() {
+    }
+
+    static void writeQuestion(DataOutput output, Question question) throws IOException {
+        output.writeByte(question.type().ordinal());
+        writeString(output, question.category());
+        writeString(output, question.id());
+        writeString(output, question.prompt());
+        writeString(output, question.correctKeyOrAnswer());
+        writeString(output, question.rewardProfile());
+
+        output.writeInt(question.options().size());
+        for (AnswerOption option : question.options().values()) {
+            writeString(output, option.key());
+            writeString(output, option.text());
+        }
+
+        writeStrings(output, question.acceptedAnswers());
+        writeReward(output, question.rewardOverrides());
+
+        writeRules(output, question.answerRules());
+    }
+
+    static Question readQuestion(ByteBuffer buffer) {
+        QuestionType type = TYPES[buffer.get()];
+        String category = readString(buffer);
+        String id = readString(buffer);
+        String prompt = readString(buffer);
+        String correct = readString(buffer);
+        String rewardProfile = readString(buffer);
+
+        int optionCount = buffer.getInt();
+        LinkedHashMap<String, AnswerOption> options = new LinkedHashMap<>();
+        for (int index = 0; index < optionCount; index++) {
+            String key = readString(buffer);
+            options.put(key, new AnswerOption(key, readString(buffer)));
+        }
+
+        List<String> acceptedAnswers = readStrings(buffer);
+        RewardDefinition overrides = readReward(buffer);
+        return new Question(category, id, type, prompt, options, correct, acceptedAnswers, rewardProfile, overrides, readRules(buffer));
+    }
+
+    private static void writeRules(DataOutput output, AnswerRules rules) throws IOException {
+        // -2 means the question inherits the global tolerance; -1 is auto.
+        output.writeByte(rules.typoTolerance() == null ? -2 : rules.typoTolerance().maxEdits());
+        writeStrings(output, rules.patterns());
+        output.writeDouble(rules.numericTolerance());
+    }
+
+    private static AnswerRules readRules(ByteBuffer buffer) {
+        byte tolerance = buffer.get();
+        TypoTolerance typoTolerance = tolerance == -2 ? null : new TypoTolerance(tolerance);
+        return new AnswerRules(typoTolerance, readStrings(buffer), buffer.getDouble());
+    }
+
+    static void writeReward(DataOutput output, RewardDefinition reward) throws IOException {
+        output.writeBoolean(reward.money() != null);
+        if (reward.money() != null) {
+            output.writeDouble(reward.money());
+        }
+
+        output.writeBoolean(reward.xp() != null);
+        if (reward.xp() != null) {
+            output.writeInt(reward.xp());
+        }
+
+        output.writeInt(reward.items().size());
+        for (RewardItem item : reward.items()) {
+            writeString(output, item.material().name());
+            output.writeInt(item.amount());
+            writeString(output, item.name());
+            writeStrings(output, item.lore());
+        }
+
+        writeStrings(output, reward.legacyCommands());
+        writeStrings(output, reward.consoleCommands());
+        writeStrings(output, reward.playerCommands());
+    }
+
+    static RewardDefinition readReward(ByteBuffer buffer) {
+        Double money = buffer.get() != 0 ? buffer.getDouble() : null;
+        Integer xp = buffer.get() != 0 ? buffer.getInt() : null;
+
+        int itemCount = buffer.getInt();
+        List<RewardItem> items = new ArrayList<>(itemCount);
+        for (int index = 0; index < itemCount; index++) {
+            String materialName = readString(buffer);
+            int amount = buffer.getInt();
+            String name = readString(buffer);
+            List<String> lore = readStrings(buffer);
+
+            // Materials were validated when the source was compiled; a missing one means the server version changed.
+            Material material = Material.getMaterial(materialName);
+            if (material != null) {
+                items.add(new RewardItem(material, amount, name, lore));
+            }
+        }
+
+        return new RewardDefinition(money, xp, items, readStrings(buffer), readStrings(buffer), readStrings(buffer));
+    }
+
+    static void writeString(DataOutput output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeStrings(DataOutput output, Collection<String> values) throws IOException {
+        output.writeInt(values.size());
+        for (String value : values) {
+            writeString(output, value);
+        }
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        List<String> values = new ArrayList<>(count);
+        for (int index = 0; index < count; index++) {
+            values.add(readString(buffer));
+        }
+        return values;
+    }
+}
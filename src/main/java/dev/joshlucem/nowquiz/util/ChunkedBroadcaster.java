@@ -0,0 +1,141 @@
+package dev.joshlucem.nowquiz.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Sends one message per recipient, optionally spread over consecutive ticks.
+ *
+ * <p>With a count or time budget, each tick sends until either budget is used up and the rest
+ * continues on the next tick, so a very large audience does not land in a single tick. Without
+ * budgets everything is sent immediately.</p>
+ *
+ * <p>Deliveries run in the order they were queued and share the per-tick budget, so a round
+ * summary still going out finishes before the next question starts and the two never
+ * interleave for a player. A delivery queued while nothing else is pending starts in the
+ * calling tick. Main thread only.</p>
+ */
+public final class ChunkedBroadcaster {
+
+    private final JavaPlugin plugin;
+    private final int perTick;
+    private final long budgetNanos;
+    private final Deque<Delivery> queue;
+    private BukkitTask task;
+    private long tickDeadline;
+    private int tickSent;
+
+    public ChunkedBroadcaster(JavaPlugin plugin, int perTick, long budgetNanos) {
+        this.plugin = plugin;
+        this.perTick = perTick;
+        this.budgetNanos = budgetNanos;
+        this.queue = new ArrayDeque<>();
+    }
+
+    /**
+     * Queues {@code message} for each online recipient and reports every delivery as it happens.
+     *
+     * @return a handle that cancels this delivery alone
+     */
+    public Delivery send(List<Player> recipients, Function<? super Player, Component> message, Consumer<Player> onDelivered) {
+        Delivery delivery = new Delivery(List.copyOf(recipients), message, onDelivered);
+        boolean idle = this.queue.isEmpty();
+        this.queue.addLast(delivery);
+        if (idle) {
+            this.pump();
+        }
+        return delivery;
+    }
+
+    private void pump() {
+        this.tickDeadline = System.nanoTime() + this.budgetNanos;
+        this.tickSent = 0;
+        Delivery head;
+        while ((head = this.queue.peekFirst()) != null) {
+            if (!head.step()) {
+                break;
+            }
+            this.queue.pollFirst();
+        }
+
+        if (this.queue.isEmpty()) {
+            if (this.task != null) {
+                this.task.cancel();
+                this.task = null;
+            }
+        } else if (this.task == null) {
+            this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this::pump, 1L, 1L);
+        }
+    }
+
+    /**
+     * Whether this tick may send another message. The first message of a tick always goes out.
+     */
+    private boolean hasBudget() {
+        if (this.tickSent == 0) {
+            return true;
+        }
+        if (this.perTick > 0 && this.tickSent >= this.perTick) {
+            return false;
+        }
+        return this.budgetNanos <= 0L || System.nanoTime() < this.tickDeadline;
+    }
+
+    /**
+     * One queued message and how far it got.
+     */
+    public final class Delivery {
+
+        private final List<Player> recipients;
+        private final Function<? super Player, Component> message;
+        private final Consumer<Player> onDelivered;
+        private int next;
+
+        private Delivery(List<Player> recipients, Function<? super Player, Component> message, Consumer<Player> onDelivered) {
+            this.recipients = recipients;
+            this.message = message;
+            this.onDelivered = onDelivered;
+        }
+
+        /**
+         * Drops the recipients this delivery has not reached yet; other deliveries are unaffected.
+         */
+        public void cancel() {
+            ChunkedBroadcaster.this.queue.remove(this);
+        }
+
+        /**
+         * Whether every recipient has been handled.
+         */
+        public boolean isDone() {
+            return this.next >= this.recipients.size();
+        }
+
+        /**
+         * Sends as much as the current tick allows.
+         *
+         * @return {@code true} once every recipient has been handled
+         */
+        private boolean step() {
+            while (this.next < this.recipients.size() && ChunkedBroadcaster.this.hasBudget()) {
+                Player recipient = this.recipients.get(this.next++);
+                if (!recipient.isOnline()) {
+                    continue;
+                }
+
+                recipient.sendMessage(this.message.apply(recipient));
+                this.onDelivered.accept(recipient);
+                ChunkedBroadcaster.this.tickSent++;
+            }
+            return this.isDone();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package dev.joshlucem.nowquiz.util;
+
+import java.util.Locale;
+
+/**
+ * Defines how the remaining round time is shown to the audience.
+ */
+public enum CountdownDisplay {
+    NONE,
+    BOSSBAR,
+    ACTIONBAR;
+
+    public static CountdownDisplay fromConfig(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return NONE;
+        }
+
+        try {
+            return CountdownDisplay.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            // YAML reads a bare "off" as false.
+            return NONE;
+        }
+    }
+}
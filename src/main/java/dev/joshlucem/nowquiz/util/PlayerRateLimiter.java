@@ -0,0 +1,274 @@
+package dev.joshlucem.nowquiz.util;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Per-player token buckets keyed by the two halves of the player UUID.
+ *
+ * <p>Buckets live in an open-addressing table of primitive arrays, so a lookup allocates
+ * nothing. A bucket that has refilled completely carries no information, so it is dropped by a
+ * small timing wheel: every bucket sits in the wheel slot of the tick where it becomes full
+ * again, and advancing the wheel removes those that did not see new answers in the meantime
+ * and reschedules the rest. Memory therefore follows the players answering right now rather
+ * than everyone who ever answered.</p>
+ *
+ * <p>All operations hold the limiter's monitor. The critical section is a handful of array
+ * reads and writes, which is cheaper than keeping a concurrent map per player.</p>
+ */
+public final class PlayerRateLimiter {
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int WHEEL_SLOTS = 64;
+    private static final int WHEEL_MASK = WHEEL_SLOTS - 1;
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final long slotNanos;
+
+    private long[] mostBits;
+    private long[] leastBits;
+    private long[] arrivals;
+    private long[] wheelTicks;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    private final long[][] wheelMost;
+    private final long[][] wheelLeast;
+    private final int[] wheelSizes;
+    private long wheelTick;
+
+    public PlayerRateLimiter(long intervalNanos, int burst, long nowNanos) {
+        this.intervalNanos = intervalNanos;
+        this.toleranceNanos = TokenBucket.tolerance(intervalNanos, burst);
+        // A bucket lives for at most interval + tolerance, so the wheel spans one full lifetime.
+        this.slotNanos = Math.max(1L, (intervalNanos + this.toleranceNanos) / WHEEL_SLOTS + 1L);
+        this.allocate(INITIAL_CAPACITY);
+        this.wheelMost = new long[WHEEL_SLOTS][];
+        this.wheelLeast = new long[WHEEL_SLOTS][];
+        this.wheelSizes = new int[WHEEL_SLOTS];
+        this.wheelTick = Math.floorDiv(nowNanos, this.slotNanos);
+    }
+
+    /**
+     * Takes one token from the player's bucket.
+     *
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until the next one
+     */
+    public synchronized long tryAcquire(UUID playerId, long nowNanos) {
+        this.advance(nowNanos);
+
+        long most = playerId.getMostSignificantBits();
+        long least = playerId.getLeastSignificantBits();
+        int slot = this.find(most, least);
+        long arrival = slot < 0 ? Long.MIN_VALUE : this.arrivals[slot];
+        long wait = TokenBucket.waitNanos(arrival, nowNanos, this.toleranceNanos);
+        if (wait > 0L) {
+            return wait;
+        }
+
+        long next = TokenBucket.nextArrival(arrival, nowNanos, this.intervalNanos);
+        if (slot >= 0) {
+            this.arrivals[slot] = next;
+            return 0L;
+        }
+
+        slot = this.insert(most, least, next);
+        this.schedule(slot, nowNanos);
+        return 0L;
+    }
+
+    /**
+     * Nanoseconds until the player's bucket has a token, without taking it.
+     */
+    public synchronized long waitNanos(UUID playerId, long nowNanos) {
+        this.advance(nowNanos);
+        int slot = this.find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        return slot < 0 ? 0L : TokenBucket.waitNanos(this.arrivals[slot], nowNanos, this.toleranceNanos);
+    }
+
+    /**
+     * Drops the player's bucket, for example when they leave the server.
+     */
+    public synchronized void forget(UUID playerId) {
+        int slot = this.find(playerId.getMostSignificantBits(), playerId.getLeastSignificantBits());
+        if (slot >= 0) {
+            this.remove(slot);
+        }
+    }
+
+    public synchronized int size() {
+        return this.size;
+    }
+
+    private void advance(long nowNanos) {
+        long target = Math.floorDiv(nowNanos, this.slotNanos);
+        if (target <= this.wheelTick) {
+            return;
+        }
+
+        // Every slot is visited at most once per advance; expiry below compares absolute ticks,
+        // so skipping whole laps after a long idle period loses nothing.
+        long first = Math.max(this.wheelTick + 1L, target - WHEEL_MASK);
+        this.wheelTick = target;
+        for (long tick = first; tick <= target; tick++) {
+            this.expireSlot((int) (tick & WHEEL_MASK), target, nowNanos);
+        }
+    }
+
+    private void expireSlot(int wheelSlot, long currentTick, long nowNanos) {
+        int count = this.wheelSizes[wheelSlot];
+        if (count == 0) {
+            return;
+        }
+
+        long[] most = this.wheelMost[wheelSlot];
+        long[] least = this.wheelLeast[wheelSlot];
+        long[] deferredMost = null;
+        long[] deferredLeast = null;
+        int deferred = 0;
+        int kept = 0;
+        for (int index = 0; index < count; index++) {
+            int slot = this.find(most[index], least[index]);
+            // Stale references (bucket removed, or moved to another tick) are simply dropped.
+            if (slot < 0 || (this.wheelTicks[slot] & WHEEL_MASK) != wheelSlot) {
+                continue;
+            }
+
+            if (this.wheelTicks[slot] > currentTick) {
+                most[kept] = most[index];
+                least[kept] = least[index];
+                kept++;
+                continue;
+            }
+
+            if (this.arrivals[slot] <= nowNanos) {
+                this.remove(slot);
+                continue;
+            }
+
+            // The player answered again since the bucket was scheduled; move it to its new refill tick.
+            if (deferredMost == null) {
+                deferredMost = new long[count - index];
+                deferredLeast = new long[count - index];
+            }
+            deferredMost[deferred] = most[index];
+            deferredLeast[deferred] = least[index];
+            deferred++;
+        }
+        this.wheelSizes[wheelSlot] = kept;
+
+        for (int index = 0; index < deferred; index++) {
+            int slot = this.find(deferredMost[index], deferredLeast[index]);
+            if (slot >= 0) {
+                this.schedule(slot, nowNanos);
+            }
+        }
+    }
+
+    private void schedule(int slot, long nowNanos) {
+        long tick = Math.max(Math.floorDiv(this.arrivals[slot], this.slotNanos), Math.floorDiv(nowNanos, this.slotNanos)) + 1L;
+        this.wheelTicks[slot] = tick;
+
+        int wheelSlot = (int) (tick & WHEEL_MASK);
+        int count = this.wheelSizes[wheelSlot];
+        if (this.wheelMost[wheelSlot] == null) {
+            this.wheelMost[wheelSlot] = new long[8];
+            this.wheelLeast[wheelSlot] = new long[8];
+        } else if (count == this.wheelMost[wheelSlot].length) {
+            this.wheelMost[wheelSlot] = Arrays.copyOf(this.wheelMost[wheelSlot], count * 2);
+            this.wheelLeast[wheelSlot] = Arrays.copyOf(this.wheelLeast[wheelSlot], count * 2);
+        }
+        this.wheelMost[wheelSlot][count] = this.mostBits[slot];
+        this.wheelLeast[wheelSlot][count] = this.leastBits[slot];
+        this.wheelSizes[wheelSlot] = count + 1;
+    }
+
+    private int find(long most, long least) {
+        int slot = hash(most, least) & this.mask;
+        while (this.used[slot]) {
+            if (this.mostBits[slot] == most && this.leastBits[slot] == least) {
+                return slot;
+            }
+            slot = (slot + 1) & this.mask;
+        }
+        return -1;
+    }
+
+    private int insert(long most, long least, long arrival) {
+        if ((this.size + 1) * 2 > this.used.length) {
+            this.resize(this.used.length * 2);
+        }
+
+        int slot = hash(most, least) & this.mask;
+        while (this.used[slot]) {
+            slot = (slot + 1) & this.mask;
+        }
+
+        this.used[slot] = true;
+        this.mostBits[slot] = most;
+        this.leastBits[slot] = least;
+        this.arrivals[slot] = arrival;
+        this.size++;
+        return slot;
+    }
+
+    /**
+     * Linear-probing delete that shifts later entries of the same cluster back instead of leaving tombstones.
+     */
+    private void remove(int slot) {
+        this.used[slot] = false;
+        this.size--;
+
+        int gap = slot;
+        int next = (slot + 1) & this.mask;
+        while (this.used[next]) {
+            int home = hash(this.mostBits[next], this.leastBits[next]) & this.mask;
+            // Move the entry into the gap when its home slot does not lie cyclically in (gap, next].
+            if (((next - home) & this.mask) >= ((next - gap) & this.mask)) {
+                this.used[gap] = true;
+                this.mostBits[gap] = this.mostBits[next];
+                this.leastBits[gap] = this.leastBits[next];
+                this.arrivals[gap] = this.arrivals[next];
+                this.wheelTicks[gap] = this.wheelTicks[next];
+                this.used[next] = false;
+                gap = next;
+            }
+            next = (next + 1) & this.mask;
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldMost = this.mostBits;
+        long[] oldLeast = this.leastBits;
+        long[] oldArrivals = this.arrivals;
+        long[] oldTicks = this.wheelTicks;
+        boolean[] oldUsed = this.used;
+
+        this.allocate(capacity);
+        for (int index = 0; index < oldUsed.length; index++) {
+            if (!oldUsed[index]) {
+                continue;
+            }
+
+            int slot = this.insert(oldMost[index], oldLeast[index], oldArrivals[index]);
+            this.wheelTicks[slot] = oldTicks[index];
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.mostBits = new long[capacity];
+        this.leastBits = new long[capacity];
+        this.arrivals = new long[capacity];
+        this.wheelTicks = new long[capacity];
+        this.used = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.size = 0;
+    }
+
+    private static int hash(long most, long least) {
+        long mixed = (most ^ Long.rotateLeft(least, 32)) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
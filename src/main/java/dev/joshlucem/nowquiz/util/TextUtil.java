@@ -1,8 +1,8 @@
 package dev.joshlucem.nowquiz.util;
 
 import java.text.DecimalFormat;
+import java.text.Normalizer;
 import java.util.Collection;
-import java.util.Locale;
 import java.util.stream.Collectors;
 
 /**
@@ -11,18 +11,163 @@ import java.util.stream.Collectors;
 public final class TextUtil {
 
     private static final DecimalFormat TWO_DECIMALS = new DecimalFormat("0.##");
+    private static final String[] ASCII_STRINGS = new String[128];
+    private static final char LATIN_FOLD_FIRST = 0x00A0;
+    private static final char LATIN_FOLD_LAST = 0x024F;
+    private static final char COMBINING_FIRST = 0x0300;
+    private static final char COMBINING_LAST = 0x036F;
+    private static final char FULLWIDTH_FIRST = 0xFF01;
+    private static final char FULLWIDTH_LAST = 0xFF5E;
+    private static final char FULLWIDTH_OFFSET = 0xFEE0;
+    private static final char IDEOGRAPHIC_SPACE = 0x3000;
+    private static final String[] LATIN_FOLDS = buildLatinFolds();
+
+    static {
+        for (char character = 0; character < ASCII_STRINGS.length; character++) {
+            ASCII_STRINGS[character] = String.valueOf(character);
+        }
+    }
 
     private TextUtil() {
     }
 
+    /**
+     * Trims, collapses inner whitespace runs to a single space, lower-cases and folds accents and
+     * full-width forms, in one pass.
+     *
+     * <p>Input that is already normalized ASCII is returned as is and single ASCII characters come
+     * from a shared table, so the common chat answers ({@code a}, {@code b}, {@code true}) do
+     * not allocate. Latin-1, Latin Extended and full-width characters are folded through lookup
+     * tables; {@link Normalizer} is only used when the input contains other characters that have
+     * a compatibility decomposition.</p>
+     */
     public static String normalizeAnswer(String raw) {
+        return normalizeAnswer(raw, true);
+    }
+
+    private static String normalizeAnswer(String raw, boolean allowDecomposition) {
         if (raw == null) {
             return "";
         }
 
-        return raw.trim()
-            .replaceAll("\\s+", " ")
-            .toLowerCase(Locale.ROOT);
+        int start = 0;
+        int end = raw.length();
+        while (start < end && raw.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && raw.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        if (start == end) {
+            return "";
+        }
+
+        if (end - start == 1 && raw.charAt(start) < ASCII_STRINGS.length) {
+            return ASCII_STRINGS[Character.toLowerCase(raw.charAt(start))];
+        }
+
+        if (start == 0 && end == raw.length() && isNormalizedAscii(raw)) {
+            return raw;
+        }
+
+        StringBuilder normalized = new StringBuilder(end - start);
+        boolean pendingSpace = false;
+        for (int index = start; index < end; index++) {
+            char character = raw.charAt(index);
+            String folded = null;
+            if (character >= FULLWIDTH_FIRST && character <= FULLWIDTH_LAST) {
+                character = (char) (character - FULLWIDTH_OFFSET);
+            } else if (character >= LATIN_FOLD_FIRST && character < LATIN_FOLD_FIRST + LATIN_FOLDS.length) {
+                folded = LATIN_FOLDS[character - LATIN_FOLD_FIRST];
+            } else if (character >= COMBINING_FIRST && character <= COMBINING_LAST) {
+                continue;
+            } else if (character == IDEOGRAPHIC_SPACE) {
+                character = ' ';
+            } else if (character >= 0x80 && allowDecomposition) {
+                if (!Normalizer.isNormalized(raw, Normalizer.Form.NFKD)) {
+                    return normalizeAnswer(Normalizer.normalize(raw, Normalizer.Form.NFKD), false);
+                }
+                allowDecomposition = false;
+            }
+
+            if (folded != null && folded.equals(" ")) {
+                character = ' ';
+                folded = null;
+            }
+
+            if (isAnswerWhitespace(character)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+
+            if (folded != null) {
+                normalized.append(folded);
+            } else {
+                normalized.append(Character.toLowerCase(character));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Lower-cased, accent-free replacement for each character from U+00A0 to U+024F.
+     */
+    private static String[] buildLatinFolds() {
+        String[] folds = new String[LATIN_FOLD_LAST - LATIN_FOLD_FIRST + 1];
+        for (int index = 0; index < folds.length; index++) {
+            String decomposed = Normalizer.normalize(String.valueOf((char) (LATIN_FOLD_FIRST + index)), Normalizer.Form.NFKD);
+            StringBuilder folded = new StringBuilder(decomposed.length());
+            for (int offset = 0; offset < decomposed.length(); offset++) {
+                char character = decomposed.charAt(offset);
+                if (character < COMBINING_FIRST || character > COMBINING_LAST) {
+                    folded.append(Character.toLowerCase(character));
+                }
+            }
+            folds[index] = folded.toString();
+        }
+
+        // Letters with a stroke have no decomposition but are typed without it just as often.
+        folds[0x00D8 - LATIN_FOLD_FIRST] = "o";
+        folds[0x00F8 - LATIN_FOLD_FIRST] = "o";
+        folds[0x0110 - LATIN_FOLD_FIRST] = "d";
+        folds[0x0111 - LATIN_FOLD_FIRST] = "d";
+        folds[0x0141 - LATIN_FOLD_FIRST] = "l";
+        folds[0x0142 - LATIN_FOLD_FIRST] = "l";
+        return folds;
+    }
+
+    private static boolean isNormalizedAscii(String value) {
+        boolean previousSpace = false;
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            if (character >= 0x80) {
+                return false;
+            }
+
+            if (isAnswerWhitespace(character)) {
+                if (character != ' ' || previousSpace) {
+                    return false;
+                }
+                previousSpace = true;
+                continue;
+            }
+
+            if (character >= 'A' && character <= 'Z') {
+                return false;
+            }
+            previousSpace = false;
+        }
+        return true;
+    }
+
+    private static boolean isAnswerWhitespace(char character) {
+        return character == ' ' || (character >= '\t' && character <= '\r');
     }
 
     public static String formatMillis(long millis) {
@@ -0,0 +1,54 @@
+package dev.joshlucem.nowquiz.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket shared by every caller.
+ *
+ * <p>The bucket is kept as a single "theoretical arrival time" (the generic cell rate
+ * algorithm), which behaves exactly like a bucket of {@code burst} tokens refilled one token
+ * per {@code intervalNanos}, but needs one CAS instead of a lock.</p>
+ */
+public final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong arrival;
+
+    public TokenBucket(long intervalNanos, int burst) {
+        this.intervalNanos = intervalNanos;
+        this.toleranceNanos = tolerance(intervalNanos, burst);
+        this.arrival = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until the next one
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = this.arrival.get();
+            long wait = waitNanos(current, nowNanos, this.toleranceNanos);
+            if (wait > 0L) {
+                return wait;
+            }
+
+            if (this.arrival.compareAndSet(current, nextArrival(current, nowNanos, this.intervalNanos))) {
+                return 0L;
+            }
+        }
+    }
+
+    static long tolerance(long intervalNanos, int burst) {
+        return intervalNanos * (Math.max(1, burst) - 1L);
+    }
+
+    static long waitNanos(long arrival, long nowNanos, long toleranceNanos) {
+        return arrival == Long.MIN_VALUE ? 0L : Math.max(0L, arrival - toleranceNanos - nowNanos);
+    }
+
+    static long nextArrival(long arrival, long nowNanos, long intervalNanos) {
+        return (arrival == Long.MIN_VALUE ? nowNanos : Math.max(arrival, nowNanos)) + intervalNanos;
+    }
+}
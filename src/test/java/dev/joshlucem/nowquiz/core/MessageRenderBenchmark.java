@@ -0,0 +1,57 @@
+package dev.joshlucem.nowquiz.core;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Standalone micro-benchmark comparing a full MiniMessage parse with the cached template render.
+ *
+ * <p>Runs outside the server from the test classpath, for example
+ * {@code java -cp <test-classpath> dev.joshlucem.nowquiz.core.MessageRenderBenchmark [iterations]}.
+ * The templates mirror the bundled {@code feedback.correct} and round header messages.</p>
+ */
+public final class MessageRenderBenchmark {
+
+    private static final Map<String, String> MESSAGES = Map.of(
+        "prefix", "<dark_gray>[</dark_gray><gold>NowQuiz</gold><dark_gray>]</dark_gray>",
+        "feedback.correct", "<prefix> <green>Correct!</green> <gray>The answer was <white><correct></white>, you said <white><answer></white>.</gray>",
+        "round.header", "<prefix> <yellow>Round <round_id></yellow> <gray>- <hover:show_text:'<gray>Category: <category></gray>'><white><category></white></hover></gray>"
+    );
+
+    private MessageRenderBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        MessageService.Bundle bundle = new MessageService(Map.of("en", MESSAGES), "en", false).bundle(null);
+
+        run(bundle, "feedback.correct", Map.of("correct", "B) 20", "answer", "A) 10"), iterations);
+        run(bundle, "round.header", Map.of("round_id", "42", "category", "Geography"), iterations);
+    }
+
+    private static void run(MessageService.Bundle bundle, String path, Map<String, String> placeholders, int iterations) {
+        if (!bundle.parse(path, placeholders).equals(bundle.render(path, placeholders))) {
+            throw new IllegalStateException("Cached render differs from a full parse for " + path + ".");
+        }
+
+        for (int index = 0; index < iterations / 4; index++) {
+            bundle.parse(path, placeholders);
+            bundle.render(path, placeholders);
+        }
+
+        long startedAt = System.nanoTime();
+        for (int index = 0; index < iterations; index++) {
+            bundle.parse(path, placeholders);
+        }
+        long parsedNanos = (System.nanoTime() - startedAt) / iterations;
+
+        startedAt = System.nanoTime();
+        for (int index = 0; index < iterations; index++) {
+            bundle.render(path, placeholders);
+        }
+        long cachedNanos = (System.nanoTime() - startedAt) / iterations;
+
+        System.out.printf(Locale.ROOT, "%-18s parse %6d ns  cached %6d ns  speedup %.1fx%n",
+            path, parsedNanos, cachedNanos, parsedNanos / (double) Math.max(1L, cachedNanos));
+    }
+}